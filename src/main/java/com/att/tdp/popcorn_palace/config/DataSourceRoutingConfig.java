@@ -0,0 +1,89 @@
+package com.att.tdp.popcorn_palace.config;
+
+import java.sql.Connection;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+// Primary/replica routing, enabled by setting popcorn-palace.datasource.replica.jdbc-url.
+// Without it the application runs on the primary pool alone. The check happens at runtime rather than
+// through @ConditionalOnProperty, so an AOT-processed build routes whenever the URL is set at launch.
+@Configuration
+public class DataSourceRoutingConfig {
+
+    // Same pool Spring Boot would create from spring.datasource.*
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    // Replica pool settings bound from popcorn-palace.datasource.replica.* (jdbc-url, username, password, ...).
+    // Only settings, not a DataSource bean, so nothing touches a replica that isn't configured.
+    @Bean
+    @ConfigurationProperties("popcorn-palace.datasource.replica")
+    public HikariConfig replicaPoolConfig() {
+        return new HikariConfig();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaPoolConfig") HikariConfig replicaPoolConfig) {
+        if (replicaPoolConfig.getJdbcUrl() == null) {
+            return primaryDataSource;
+        }
+        replicaPoolConfig.setPoolName("replica");
+        RoutingDataSourceProxy dataSource = new RoutingDataSourceProxy(new HikariDataSource(replicaPoolConfig));
+        // Pool defaults, declared so the proxy doesn't open a connection at startup to look them up
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        dataSource.setTargetDataSource(new RoutingDataSource(primaryDataSource, dataSource.replica));
+        dataSource.afterPropertiesSet();
+        return dataSource;
+    }
+
+    // With a replica configured, replica-routed transactions must not populate the Hibernate caches.
+    // The dialect is set on the entity manager factory, where JpaTransactionManager picks it up.
+    @Bean
+    public static BeanPostProcessor replicaCacheModePostProcessor(Environment environment) {
+        boolean routing = environment.containsProperty("popcorn-palace.datasource.replica.jdbc-url");
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (routing && bean instanceof AbstractEntityManagerFactoryBean entityManagerFactory) {
+                    entityManagerFactory.setJpaDialect(new ReplicaCacheModeJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+
+    // The routing proxy owns the replica pool and closes it with the context
+    static final class RoutingDataSourceProxy extends LazyConnectionDataSourceProxy implements AutoCloseable {
+        private final HikariDataSource replica;
+
+        private RoutingDataSourceProxy(HikariDataSource replica) {
+            this.replica = replica;
+        }
+
+        @Override
+        public void close() {
+            replica.close();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.att.tdp.popcorn_palace.config;
+
+import java.sql.SQLException;
+
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+
+// Read-only transactions headed for the replica may read the second-level cache but never populate it,
+// and skip the query cache altogether. A lagging replica read runs after the primary write has already
+// invalidated the caches, so putting its result would pin a stale row or query result until the next
+// write or the region TTL.
+// The cache mode is set on every transaction begin, since an open-in-view session spans several transactions.
+class ReplicaCacheModeJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException, TransactionException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        boolean replica = definition.isReadOnly() && !RoutingDataSource.isPrimaryForced();
+        // Entity loads through find() re-derive their cache mode from the session properties, so the store
+        // mode is set there (BYPASS reads the cache without putting)
+        entityManager.setProperty(AvailableSettings.JAKARTA_SHARED_CACHE_STORE_MODE,
+                replica ? CacheStoreMode.BYPASS : CacheStoreMode.USE);
+        // Queries take the session cache mode instead. GET still caches a query result on a miss, so
+        // replica queries ignore the query cache entirely
+        entityManager.unwrap(Session.class).setCacheMode(replica ? CacheMode.IGNORE : CacheMode.NORMAL);
+        return transactionData;
+    }
+}
@@ -0,0 +1,82 @@
+package com.att.tdp.popcorn_palace.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.att.tdp.popcorn_palace.service.AfterCommit;
+
+// Decides when booking reads must skip the replica because the replica may not have caught up with a
+// recent write yet: reads of a showtime's bookings after a booking write to that showtime, and reads of a
+// booking by ID after that booking was created, changed or deleted. A window of zero always allows replica reads.
+// The window starts when the write commits, so a long or rolled back write transaction doesn't eat into it.
+// Writes are tracked in this JVM only: another instance serving the next read does not know about them
+// and may still read the replica. Clients that need read-your-writes across instances need sticky routing.
+@Component
+public class ReplicaStalenessPolicy {
+    private static final int MAX_TRACKED_WRITES = 10_000;
+
+    private final long windowNanos;
+    // Showtime ID -> System.nanoTime() of its latest booking write
+    private final Map<Long, Long> showtimeWrites = new ConcurrentHashMap<>();
+    // Booking ID -> System.nanoTime() of its latest write
+    private final Map<Long, Long> bookingWrites = new ConcurrentHashMap<>();
+    // When tracking overflows, every read goes to the primary until this time
+    private volatile long allPrimaryUntil;
+
+    public ReplicaStalenessPolicy(
+            @Value("${popcorn-palace.datasource.replica-staleness-window:PT2S}") Duration window) {
+        this.windowNanos = window.toNanos();
+        this.allPrimaryUntil = System.nanoTime();
+    }
+
+    // A booking of the showtime was created, moved or cancelled
+    public void recordWrite(Long showtimeId) {
+        record(showtimeWrites, showtimeId);
+    }
+
+    // The booking was created, changed or deleted
+    public void recordBookingWrite(Long bookingId) {
+        record(bookingWrites, bookingId);
+    }
+
+    public boolean requiresPrimary(Long showtimeId) {
+        return requiresPrimary(showtimeWrites, showtimeId);
+    }
+
+    public boolean requiresPrimaryForBooking(Long bookingId) {
+        return requiresPrimary(bookingWrites, bookingId);
+    }
+
+    private void record(Map<Long, Long> writes, Long id) {
+        if (windowNanos == 0 || id == null) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            long now = System.nanoTime();
+            if (writes.size() >= MAX_TRACKED_WRITES) {
+                writes.values().removeIf(writtenAt -> now - writtenAt > windowNanos);
+                if (writes.size() >= MAX_TRACKED_WRITES) {
+                    writes.clear();
+                    allPrimaryUntil = now + windowNanos;
+                }
+            }
+            writes.put(id, now);
+        });
+    }
+
+    private boolean requiresPrimary(Map<Long, Long> writes, Long id) {
+        if (windowNanos == 0) {
+            return false;
+        }
+        long now = System.nanoTime();
+        if (now - allPrimaryUntil < 0) {
+            return true;
+        }
+        Long writtenAt = writes.get(id);
+        return writtenAt != null && now - writtenAt <= windowNanos;
+    }
+}
@@ -0,0 +1,66 @@
+package com.att.tdp.popcorn_palace.controller;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.att.tdp.popcorn_palace.model.ArchivedBooking;
+import com.att.tdp.popcorn_palace.model.ArchivedShowtime;
+import com.att.tdp.popcorn_palace.repository.ArchivedBookingRepository;
+import com.att.tdp.popcorn_palace.repository.ArchivedShowtimeRepository;
+
+// Read-only access to showtimes and bookings that were moved out of the hot tables
+@RestController
+@RequestMapping("/archive")
+public class ArchiveController {
+    private static final Logger log = LoggerFactory.getLogger(ArchiveController.class);
+    private final ArchivedShowtimeRepository archivedShowtimeRepository;
+    private final ArchivedBookingRepository archivedBookingRepository;
+
+    public ArchiveController(ArchivedShowtimeRepository archivedShowtimeRepository,
+            ArchivedBookingRepository archivedBookingRepository) {
+        this.archivedShowtimeRepository = archivedShowtimeRepository;
+        this.archivedBookingRepository = archivedBookingRepository;
+    }
+
+    // Fetch an archived showtime by its original ID
+    @Transactional(readOnly = true)
+    @GetMapping("/showtimes/{showtimeId}")
+    public ResponseEntity<?> getArchivedShowtimeById(@PathVariable Long showtimeId) {
+        return archivedShowtimeRepository.findById(showtimeId)
+                .map(showtime -> ResponseEntity.ok().body((Object) showtime))
+                .orElseGet(() -> {
+                    log.warn("Archived showtime ID {} not found", showtimeId);
+                    return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                            .body("Error: Archived showtime ID " + showtimeId + " not found!");
+                });
+    }
+
+    // Fetch all archived showtimes of a movie
+    @Transactional(readOnly = true)
+    @GetMapping("/showtimes/movie/{movieId}")
+    public ResponseEntity<List<ArchivedShowtime>> getArchivedShowtimesByMovie(@PathVariable Long movieId) {
+        List<ArchivedShowtime> showtimes = archivedShowtimeRepository.findByMovieId(movieId);
+        if (showtimes.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(showtimes);
+    }
+
+    // Fetch the bookings of an archived showtime
+    @Transactional(readOnly = true)
+    @GetMapping("/bookings/showtime/{showtimeId}")
+    public ResponseEntity<List<ArchivedBooking>> getArchivedBookingsByShowtime(@PathVariable Long showtimeId) {
+        List<ArchivedBooking> bookings = archivedBookingRepository.findByShowtimeId(showtimeId);
+        if (bookings.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(bookings);
+    }
+
+}
@@ -5,15 +5,21 @@ import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
+import com.att.tdp.popcorn_palace.config.ReplicaStalenessPolicy;
+import com.att.tdp.popcorn_palace.config.RoutingDataSource;
 import com.att.tdp.popcorn_palace.model.Booking;
 import com.att.tdp.popcorn_palace.model.Showtime;
 import com.att.tdp.popcorn_palace.repository.BookingRepository;
 import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.att.tdp.popcorn_palace.service.SalesAggregateService;
+import com.att.tdp.popcorn_palace.service.ShowtimeReadCoalescer;
 
 @RestController
 @RequestMapping("/bookings")
@@ -21,20 +27,33 @@ public class BookingController {
     private static final Logger log = LoggerFactory.getLogger(BookingController.class);
     private final BookingRepository bookingRepository;
     private final ShowtimeRepository showtimeRepository;
+    private final SalesAggregateService salesAggregateService;
+    private final ReplicaStalenessPolicy replicaStalenessPolicy;
+    private final ShowtimeReadCoalescer showtimeReadCoalescer;
 
-    public BookingController(BookingRepository bookingRepository, ShowtimeRepository showtimeRepository) {
+    public BookingController(BookingRepository bookingRepository, ShowtimeRepository showtimeRepository,
+            SalesAggregateService salesAggregateService, ReplicaStalenessPolicy replicaStalenessPolicy,
+            ShowtimeReadCoalescer showtimeReadCoalescer) {
         this.bookingRepository = bookingRepository;
         this.showtimeRepository = showtimeRepository;
+        this.salesAggregateService = salesAggregateService;
+        this.replicaStalenessPolicy = replicaStalenessPolicy;
+        this.showtimeReadCoalescer = showtimeReadCoalescer;
     }
 
     // Fetch booking by its ID
+    @Transactional(readOnly = true)
     @GetMapping("/{id}")
     public ResponseEntity<Object> getBookingById(@PathVariable Long id) {
-        log.info("Fetching booking by ID: {}", id);
+        log.debug("Fetching booking by ID: {}", id);
 
-        return bookingRepository.findById(id)
+        // Right after a write to this booking the replica may still miss it or return the old version
+        Optional<Booking> found = replicaStalenessPolicy.requiresPrimaryForBooking(id)
+                ? RoutingDataSource.onPrimary(() -> bookingRepository.findById(id))
+                : bookingRepository.findById(id);
+        return found
                 .map(booking -> {
-                    log.info("Booking found: ID {}", id);
+                    log.debug("Booking found: ID {}", id);
                     return ResponseEntity.ok().body((Object) booking);
                 })
                 .orElseGet(() -> {
@@ -45,16 +64,18 @@ public class BookingController {
     }
 
     // Fetch bookings for a specific showtime
+    // Not transactional: the coalescer opens a read-only transaction for the one request that loads
     @GetMapping("/showtime/{showtimeId}")
     public ResponseEntity<?> getBookingsByShowtime(@PathVariable Long showtimeId) {
-        log.info("Fetching bookings for showtime ID: {}", showtimeId);
-        List<Booking> bookings = bookingRepository.findByShowtimeId(showtimeId);
+        log.debug("Fetching bookings for showtime ID: {}", showtimeId);
+        // Concurrent requests for the same showtime share one query
+        List<Booking> bookings = showtimeReadCoalescer.findBookings(showtimeId);
         if (bookings.isEmpty()) {
             log.warn("No bookings found for showtime ID {}", showtimeId);
             return ResponseEntity.status(HttpStatus.NO_CONTENT)
                     .body("Error: No bookings for showtime ID " + showtimeId);
         }
-        log.info("Retrieved {} bookings for showtime ID {}", bookings.size(), showtimeId);
+        log.debug("Retrieved {} bookings for showtime ID {}", bookings.size(), showtimeId);
         return ResponseEntity.ok(bookings);
     }
 
@@ -62,8 +83,10 @@ public class BookingController {
     @Transactional
     @PostMapping
     public ResponseEntity<?> createBooking(@RequestBody Booking booking) {
-        log.info("Attempting to create new booking for showtime ID: {}, seat number: {}",
-                booking.getShowtime() != null ? booking.getShowtime().getId() : "null", booking.getSeatNumber());
+        if (log.isDebugEnabled()) {
+            log.debug("Attempting to create new booking for showtime ID: {}, seat number: {}",
+                    booking.getShowtime() != null ? booking.getShowtime().getId() : "null", booking.getSeatNumber());
+        }
 
         try {
             // Validate that showtime ID exists
@@ -90,10 +113,16 @@ public class BookingController {
 
             booking.setShowtime(showtimeOptional.get());
             Booking savedBooking = bookingRepository.save(booking);
+            salesAggregateService.recordBooking(savedBooking.getShowtime());
+            replicaStalenessPolicy.recordWrite(savedBooking.getShowtime().getId());
+            replicaStalenessPolicy.recordBookingWrite(savedBooking.getId());
+            showtimeReadCoalescer.bookingsChanged(savedBooking.getShowtime().getId());
             log.info("Booking created successfully - ID: {}, Showtime ID: {}, Seat: {}",
                     savedBooking.getId(), savedBooking.getShowtime().getId(), savedBooking.getSeatNumber());
             return ResponseEntity.ok(savedBooking);
 
+        } catch (DataIntegrityViolationException e) {
+            return seatTakenConcurrently(booking.getShowtime().getId(), booking.getSeatNumber());
         } catch (Exception e) {
             log.error("Unexpected error while creating booking: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -105,7 +134,7 @@ public class BookingController {
     @Transactional
     @PostMapping("/update/{id}")
     public ResponseEntity<?> updateBooking(@PathVariable Long id, @RequestBody Booking updatedBooking) {
-        log.info("Attempting to update booking ID: {}", id);
+        log.debug("Attempting to update booking ID: {}", id);
 
         try {
             Optional<Booking> existingBookingOptional = bookingRepository.findById(id);
@@ -132,14 +161,25 @@ public class BookingController {
                 }
             }
             Booking existingBooking = existingBookingOptional.get();
+            // Move the sale to the new showtime's bucket (a no-op net change when the showtime is unchanged)
+            salesAggregateService.removeBooking(existingBooking.getShowtime());
+            salesAggregateService.recordBooking(showtime);
+            replicaStalenessPolicy.recordWrite(existingBooking.getShowtime().getId());
+            replicaStalenessPolicy.recordWrite(showtime.getId());
+            replicaStalenessPolicy.recordBookingWrite(id);
+            showtimeReadCoalescer.bookingsChanged(existingBooking.getShowtime().getId());
+            showtimeReadCoalescer.bookingsChanged(showtime.getId());
             existingBooking.setShowtime(showtime);
             existingBooking.setUserId(updatedBooking.getUserId());
             existingBooking.setSeatNumber(updatedBooking.getSeatNumber());
 
-            Booking savedBooking = bookingRepository.save(existingBooking);
+            // Flushed here, so a seat taken concurrently surfaces as a constraint violation below
+            Booking savedBooking = bookingRepository.saveAndFlush(existingBooking);
             log.info("Booking ID {} updated successfully", savedBooking.getId());
             return ResponseEntity.ok(savedBooking);
 
+        } catch (DataIntegrityViolationException e) {
+            return seatTakenConcurrently(updatedBooking.getShowtime().getId(), updatedBooking.getSeatNumber());
         } catch (Exception e) {
             log.error("Unexpected error while updating booking ID {}: {}", id, e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -151,15 +191,20 @@ public class BookingController {
     @Transactional
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteBooking(@PathVariable Long id) {
-        log.info("Attempting to delete booking ID: {}", id);
+        log.debug("Attempting to delete booking ID: {}", id);
 
         try {
-            if (!bookingRepository.existsById(id)) {
+            Optional<Booking> booking = bookingRepository.findById(id);
+            if (booking.isEmpty()) {
                 log.warn("Delete failed - Booking ID {} not found", id);
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Error: Booking ID not found!");
             }
 
-            bookingRepository.deleteById(id);
+            salesAggregateService.removeBooking(booking.get().getShowtime());
+            replicaStalenessPolicy.recordWrite(booking.get().getShowtime().getId());
+            replicaStalenessPolicy.recordBookingWrite(id);
+            showtimeReadCoalescer.bookingsChanged(booking.get().getShowtime().getId());
+            bookingRepository.delete(booking.get());
             log.info("Booking ID {} deleted successfully", id);
             return ResponseEntity.noContent().build();
 
@@ -170,4 +215,11 @@ public class BookingController {
         }
     }
 
+    // Another request booked the seat between the check and the write, and the unique (showtime, seat)
+    // constraint rejected this one. The transaction is only marked for rollback, so it ends without an error.
+    private ResponseEntity<?> seatTakenConcurrently(Long showtimeId, int seatNumber) {
+        TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        log.warn("Seat {} taken concurrently for showtime ID {}", seatNumber, showtimeId);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body("Error: Seat is already taken!");
+    }
 }
@@ -0,0 +1,64 @@
+package com.att.tdp.popcorn_palace.controller;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+
+@RestController
+@RequestMapping("/cache")
+public class CacheController {
+    private final Statistics statistics;
+
+    public CacheController(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    // Expose second-level and query cache hit/miss/put counters (all zero when hibernate.generate_statistics is off)
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        Map<String, Object> secondLevel = new LinkedHashMap<>();
+        secondLevel.put("hits", statistics.getSecondLevelCacheHitCount());
+        secondLevel.put("misses", statistics.getSecondLevelCacheMissCount());
+        secondLevel.put("puts", statistics.getSecondLevelCachePutCount());
+
+        Map<String, Object> queryCache = new LinkedHashMap<>();
+        queryCache.put("hits", statistics.getQueryCacheHitCount());
+        queryCache.put("misses", statistics.getQueryCacheMissCount());
+        queryCache.put("puts", statistics.getQueryCachePutCount());
+
+        Map<String, Object> regions = new LinkedHashMap<>();
+        regions.put("movies", regionStats(Movie.class.getName()));
+        regions.put("showtimes", regionStats(Showtime.class.getName()));
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        stats.put("secondLevelCache", secondLevel);
+        stats.put("queryCache", queryCache);
+        stats.put("regions", regions);
+        return ResponseEntity.ok(stats);
+    }
+
+    // Per-region counters, empty when the region has not been created yet
+    private Map<String, Object> regionStats(String regionName) {
+        Map<String, Object> region = new LinkedHashMap<>();
+        CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(regionName);
+        if (regionStatistics != null) {
+            region.put("hits", regionStatistics.getHitCount());
+            region.put("misses", regionStatistics.getMissCount());
+            region.put("puts", regionStatistics.getPutCount());
+            region.put("elementsInMemory", regionStatistics.getElementCountInMemory());
+        }
+        return region;
+    }
+
+}
@@ -16,6 +16,7 @@ import com.att.tdp.popcorn_palace.model.Movie;
 import com.att.tdp.popcorn_palace.model.Showtime;
 import com.att.tdp.popcorn_palace.repository.MovieRepository;
 import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.att.tdp.popcorn_palace.service.MovieSearchIndex;
 
 @RestController
 @RequestMapping("/movies")
@@ -23,33 +24,49 @@ public class MovieController {
     private final MovieRepository movieRepository;
     private static final Logger log = LoggerFactory.getLogger(MovieController.class);
     private final ShowtimeRepository showtimeRepository;
+    private final MovieSearchIndex movieSearchIndex;
 
-    public MovieController(MovieRepository movieRepository, ShowtimeRepository showtimeRepository) {
+    public MovieController(MovieRepository movieRepository, ShowtimeRepository showtimeRepository,
+            MovieSearchIndex movieSearchIndex) {
         this.movieRepository = movieRepository;
         this.showtimeRepository = showtimeRepository;
+        this.movieSearchIndex = movieSearchIndex;
     }
 
     // Fetch all movies from the database
+    @Transactional(readOnly = true)
     @GetMapping("/all")
     public ResponseEntity<?> getAllMovies() {
-        log.info("Fetching all movies from database");
+        log.debug("Fetching all movies from database");
         List<Movie> movies = movieRepository.findAll();
         if (movies.isEmpty()) {
             log.warn("No movies found in the database");
             return ResponseEntity.status(HttpStatus.NO_CONTENT)
                     .body("Error: No movies available in the database!");
         }
-        log.info("Retrieved {} movies", movies.size());
+        log.debug("Retrieved {} movies", movies.size());
         return ResponseEntity.ok(movies);
     }
 
+    // Typeahead / fuzzy search over titles and genres, served from the in-memory index
+    @GetMapping("/search")
+    public ResponseEntity<?> searchMovies(@RequestParam String q, @RequestParam(defaultValue = "10") int limit) {
+        if (q.isBlank() || limit < 1 || limit > 100) {
+            log.warn("Search rejected - query '{}', limit {}", q, limit);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body("Error: Search query must not be empty and limit must be between 1 and 100!");
+        }
+        return ResponseEntity.ok(movieSearchIndex.search(q, limit));
+    }
+
     // Fetch a specific movie by its ID
+    @Transactional(readOnly = true)
     @GetMapping("/{id}")
     public ResponseEntity<Object> getMovieById(@PathVariable Long id) {
-        log.info("Fetching movie by ID: {}", id);
+        log.debug("Fetching movie by ID: {}", id);
         return movieRepository.findById(id)
                 .map(movie -> {
-                    log.info("Movie found: {}", movie.getTitle());
+                    log.debug("Movie found: {}", movie.getTitle());
                     return ResponseEntity.ok().body((Object) movie);
                 })
                 .orElseGet(() -> {
@@ -63,7 +80,7 @@ public class MovieController {
     @Transactional
     @PostMapping
     public ResponseEntity<?> addMovie(@Valid @RequestBody Movie movie) {
-        log.info("Creating new movie: {}", movie.getTitle());
+        log.debug("Creating new movie: {}", movie.getTitle());
 
         try {
             // Check if movie with same title already exists
@@ -78,6 +95,7 @@ public class MovieController {
             }
 
             Movie savedMovie = movieRepository.save(movie);
+            movieSearchIndex.index(savedMovie);
             log.info("Movie '{}' added successfully with ID {}", savedMovie.getTitle(), savedMovie.getId());
             return ResponseEntity.ok(savedMovie);
 
@@ -92,7 +110,7 @@ public class MovieController {
     @Transactional
     @PostMapping("/update/{movieTitle}")
     public ResponseEntity<?> updateMovie(@PathVariable String movieTitle, @RequestBody Movie updatedMovie) {
-        log.info("Updating movie: {} -> {}", movieTitle, updatedMovie.getTitle());
+        log.debug("Updating movie: {} -> {}", movieTitle, updatedMovie.getTitle());
         try {
             Optional<Movie> existingMovie = movieRepository.findByTitle(movieTitle);
             if (existingMovie.isEmpty()) {
@@ -115,6 +133,7 @@ public class MovieController {
             movie.setReleaseYear(updatedMovie.getReleaseYear());
 
             Movie savedMovie = movieRepository.save(movie);
+            movieSearchIndex.index(savedMovie);
             log.info("Movie '{}' updated successfully with ID {}", savedMovie.getTitle(), savedMovie.getId());
             return ResponseEntity.ok(savedMovie);
 
@@ -129,7 +148,7 @@ public class MovieController {
     @Transactional
     @DeleteMapping("/{movieTitle}")
     public ResponseEntity<?> deleteMovie(@PathVariable String movieTitle) {
-        log.info("Attempting to delete movie: {}", movieTitle);
+        log.debug("Attempting to delete movie: {}", movieTitle);
 
         try {
             Optional<Movie> movie = movieRepository.findByTitle(movieTitle);
@@ -147,6 +166,7 @@ public class MovieController {
             }
 
             movieRepository.delete(movie.get());
+            movieSearchIndex.remove(movie.get().getId());
             log.info("Movie '{}' deleted successfully", movieTitle);
             return ResponseEntity.noContent().build();
 
@@ -0,0 +1,93 @@
+package com.att.tdp.popcorn_palace.controller;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.att.tdp.popcorn_palace.model.DailySales;
+import com.att.tdp.popcorn_palace.repository.DailySalesRepository;
+
+@RestController
+@RequestMapping("/reports")
+public class ReportController {
+    private static final Logger log = LoggerFactory.getLogger(ReportController.class);
+    private final DailySalesRepository dailySalesRepository;
+
+    public ReportController(DailySalesRepository dailySalesRepository) {
+        this.dailySalesRepository = dailySalesRepository;
+    }
+
+    // Sold seats per day, grouped by movie or theater
+    @Transactional(readOnly = true)
+    @GetMapping("/occupancy")
+    public ResponseEntity<?> getOccupancy(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "movie") String groupBy) {
+        return report(from, to, groupBy, "soldSeats", DailySales::getSoldSeats);
+    }
+
+    // Revenue (showtime price x bookings) per day, grouped by movie or theater
+    @Transactional(readOnly = true)
+    @GetMapping("/revenue")
+    public ResponseEntity<?> getRevenue(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "movie") String groupBy) {
+        return report(from, to, groupBy, "revenue", DailySales::getRevenue);
+    }
+
+    // Sum the pre-aggregated buckets; the amount of work depends on days x movies x theaters, never on bookings
+    private ResponseEntity<?> report(LocalDate from, LocalDate to, String groupBy, String valueName,
+            ToDoubleFunction<DailySales> value) {
+        log.debug("Building {} report from {} to {} grouped by {}", valueName, from, to, groupBy);
+
+        Function<DailySales, Object> key;
+        String keyName;
+        if ("movie".equals(groupBy)) {
+            key = DailySales::getMovieId;
+            keyName = "movieId";
+        } else if ("theater".equals(groupBy)) {
+            key = DailySales::getTheater;
+            keyName = "theater";
+        } else {
+            log.warn("Report failed - unsupported groupBy '{}'", groupBy);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body("Error: groupBy must be 'movie' or 'theater'!");
+        }
+        if (from.isAfter(to)) {
+            log.warn("Report failed - 'from' {} is after 'to' {}", from, to);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Error: 'from' must not be after 'to'!");
+        }
+
+        Map<LocalDate, Map<Object, Double>> totals = new TreeMap<>();
+        for (DailySales sales : dailySalesRepository.findBySalesDateBetween(from, to)) {
+            totals.computeIfAbsent(sales.getSalesDate(), day -> new LinkedHashMap<>())
+                    .merge(key.apply(sales), value.applyAsDouble(sales), Double::sum);
+        }
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        totals.forEach((day, byKey) -> byKey.forEach((groupKey, total) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("date", day);
+            row.put(keyName, groupKey);
+            row.put(valueName, "soldSeats".equals(valueName) ? (Object) total.longValue() : total);
+            rows.add(row);
+        }));
+        return ResponseEntity.ok(rows);
+    }
+
+}
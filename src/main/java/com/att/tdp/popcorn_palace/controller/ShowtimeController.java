@@ -1,5 +1,6 @@
 package com.att.tdp.popcorn_palace.controller;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +15,9 @@ import com.att.tdp.popcorn_palace.model.Movie;
 import com.att.tdp.popcorn_palace.model.Showtime;
 import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
 import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.service.SalesAggregateService;
+import com.att.tdp.popcorn_palace.service.ShowtimeReadCoalescer;
 
 @RestController
 @RequestMapping("/showtimes")
@@ -21,30 +25,41 @@ public class ShowtimeController {
     private static final Logger log = LoggerFactory.getLogger(ShowtimeController.class);
     private final ShowtimeRepository showtimeRepository;
     private final MovieRepository movieRepository;
+    private final BookingRepository bookingRepository;
+    private final SalesAggregateService salesAggregateService;
+    private final ShowtimeReadCoalescer showtimeReadCoalescer;
 
-    public ShowtimeController(ShowtimeRepository showtimeRepository, MovieRepository movieRepository) {
+    public ShowtimeController(ShowtimeRepository showtimeRepository, MovieRepository movieRepository,
+            BookingRepository bookingRepository, SalesAggregateService salesAggregateService,
+            ShowtimeReadCoalescer showtimeReadCoalescer) {
         this.showtimeRepository = showtimeRepository;
         this.movieRepository = movieRepository;
+        this.bookingRepository = bookingRepository;
+        this.salesAggregateService = salesAggregateService;
+        this.showtimeReadCoalescer = showtimeReadCoalescer;
     }
 
     // Fetch all showtimes from the database
+    @Transactional(readOnly = true)
     @GetMapping
     public ResponseEntity<List<Showtime>> getAllShowtimes() {
-        log.info("Fetching all showtimes from database");
+        log.debug("Fetching all showtimes from database");
         List<Showtime> showtimes = showtimeRepository.findAll();
         if (showtimes.isEmpty()) {
             log.warn("No showtimes found in the database");
             return ResponseEntity.noContent().build();
         }
-        log.info("Retrieved {} showtimes", showtimes.size());
+        log.debug("Retrieved {} showtimes", showtimes.size());
         return ResponseEntity.ok(showtimes);
     }
 
     // Fetch a single showtime by ID
+    // No transaction here, so requests waiting on a coalesced lookup do not hold a connection
     @GetMapping("/{showtimeId}")
     public ResponseEntity<?> getShowtimeById(@PathVariable Long showtimeId) {
         try {
-            return showtimeRepository.findById(showtimeId)
+            // Concurrent requests for the same showtime share one lookup
+            return showtimeReadCoalescer.findShowtime(showtimeId)
                     .map(showtime -> ResponseEntity.ok().body((Object) showtime))
                     .orElseGet(() -> {
                         log.warn("Showtime ID {} not found", showtimeId);
@@ -59,15 +74,16 @@ public class ShowtimeController {
     }
 
     // Fetch all showtimes for a specific movie by movie ID
+    @Transactional(readOnly = true)
     @GetMapping("/movie/{movieId}")
     public ResponseEntity<List<Showtime>> getShowtimesByMovie(@PathVariable Long movieId) {
-        log.info("Fetching showtimes for movie ID: {}", movieId);
+        log.debug("Fetching showtimes for movie ID: {}", movieId);
         List<Showtime> showtimes = showtimeRepository.findByMovieId(movieId);
         if (showtimes.isEmpty()) {
             log.warn("No showtimes found for movie ID {}", movieId);
             return ResponseEntity.noContent().build();
         }
-        log.info("Retrieved {} showtimes for movie ID {}", showtimes.size(), movieId);
+        log.debug("Retrieved {} showtimes for movie ID {}", showtimes.size(), movieId);
         return ResponseEntity.ok(showtimes);
     }
 
@@ -75,8 +91,10 @@ public class ShowtimeController {
     @Transactional
     @PostMapping
     public ResponseEntity<?> addShowtime(@RequestBody Showtime showtime) {
-        log.info("Attempting to create new showtime for movie ID: {}",
-                showtime.getMovie() != null ? showtime.getMovie().getId() : "null");
+        if (log.isDebugEnabled()) {
+            log.debug("Attempting to create new showtime for movie ID: {}",
+                    showtime.getMovie() != null ? showtime.getMovie().getId() : "null");
+        }
 
         try {
             // Ensure movie ID is provided
@@ -124,7 +142,7 @@ public class ShowtimeController {
     @Transactional
     @PostMapping("/update/{showtimeId}")
     public ResponseEntity<?> updateShowtime(@PathVariable Long showtimeId, @RequestBody Showtime updatedShowtime) {
-        log.info("Attempting to update showtime ID: {}", showtimeId);
+        log.debug("Attempting to update showtime ID: {}", showtimeId);
         try {
             Optional<Showtime> existingShowtimeOptional = showtimeRepository.findById(showtimeId);
             if (existingShowtimeOptional.isEmpty()) {
@@ -140,6 +158,10 @@ public class ShowtimeController {
             }
 
             Showtime existingShowtime = existingShowtimeOptional.get();
+            LocalDateTime previousStartTime = existingShowtime.getStartTime();
+            Long previousMovieId = existingShowtime.getMovie().getId();
+            String previousTheater = existingShowtime.getTheater();
+            Double previousPrice = existingShowtime.getPrice();
             existingShowtime.setMovie(movieOptional.get());
             existingShowtime.setTheater(updatedShowtime.getTheater());
             existingShowtime.setPrice(updatedShowtime.getPrice());
@@ -147,6 +169,13 @@ public class ShowtimeController {
             existingShowtime.setEndTime(updatedShowtime.getEndTime());
 
             Showtime savedShowtime = showtimeRepository.save(existingShowtime);
+
+            // Re-bucket already sold seats, since day, movie, theater or price may have changed
+            long soldSeats = bookingRepository.countByShowtimeId(showtimeId);
+            salesAggregateService.adjust(previousStartTime.toLocalDate(), previousMovieId, previousTheater,
+                    previousPrice, -soldSeats);
+            salesAggregateService.adjust(savedShowtime, soldSeats);
+            showtimeReadCoalescer.showtimeChanged(showtimeId);
             log.info("Showtime ID {} updated successfully", savedShowtime.getId());
             return ResponseEntity.ok(savedShowtime);
 
@@ -161,7 +190,7 @@ public class ShowtimeController {
     @Transactional
     @DeleteMapping("/{showtimeId}")
     public ResponseEntity<?> deleteShowtime(@PathVariable Long showtimeId) {
-        log.info("Attempting to delete showtime ID: {}", showtimeId);
+        log.debug("Attempting to delete showtime ID: {}", showtimeId);
 
         try {
             if (!showtimeRepository.existsById(showtimeId)) {
@@ -169,6 +198,7 @@ public class ShowtimeController {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Error: Showtime ID not found!");
             }
             showtimeRepository.deleteById(showtimeId);
+            showtimeReadCoalescer.showtimeChanged(showtimeId);
             log.info("Showtime ID {} deleted successfully", showtimeId);
             return ResponseEntity.noContent().build();
 
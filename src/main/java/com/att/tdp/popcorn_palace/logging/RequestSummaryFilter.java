@@ -0,0 +1,69 @@
+package com.att.tdp.popcorn_palace.logging;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// Emits one structured summary event per request (method, path, status, latency, SQL count).
+// A sampled fraction of requests also logs the SQL it ran, instead of printing every statement.
+// Always registered and switched by popcorn-palace.logging.request-summary.enabled at runtime,
+// so an AOT-processed build honours the production profile chosen at launch.
+@Component
+public class RequestSummaryFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(RequestSummaryFilter.class);
+    private static final Logger sqlLog = LoggerFactory.getLogger("com.att.tdp.popcorn_palace.sql-trace");
+
+    private final boolean enabled;
+    private final double sqlTraceSampleRate;
+
+    public RequestSummaryFilter(
+            @Value("${popcorn-palace.logging.request-summary.enabled:false}") boolean enabled,
+            @Value("${popcorn-palace.logging.sql-trace.sample-rate:0.0}") double sqlTraceSampleRate) {
+        this.enabled = enabled;
+        this.sqlTraceSampleRate = sqlTraceSampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!enabled || !log.isInfoEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        boolean sampled = sqlTraceSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sqlTraceSampleRate;
+        RequestTrace trace = RequestTrace.begin(sampled);
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long latencyMicros = (System.nanoTime() - start) / 1_000;
+            RequestTrace.end();
+            log.atInfo()
+                    .addKeyValue("method", request.getMethod())
+                    .addKeyValue("path", request.getRequestURI())
+                    .addKeyValue("status", response.getStatus())
+                    .addKeyValue("latencyMicros", latencyMicros)
+                    .addKeyValue("queries", trace.getQueryCount())
+                    .addKeyValue("sqlSampled", trace.isSampled())
+                    .log("request completed");
+            if (trace.isSampled()) {
+                sqlLog.atInfo()
+                        .addKeyValue("method", request.getMethod())
+                        .addKeyValue("path", request.getRequestURI())
+                        .addKeyValue("statements", trace.getStatements())
+                        .log("sampled request SQL");
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.att.tdp.popcorn_palace.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Per-request counters collected on the request thread and reported once by RequestSummaryFilter
+final class RequestTrace {
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+    private static final int MAX_TRACED_STATEMENTS = 50;
+
+    private final boolean sampled;
+    private final List<String> statements;
+    private int queryCount;
+
+    private RequestTrace(boolean sampled) {
+        this.sampled = sampled;
+        this.statements = sampled ? new ArrayList<>() : List.of();
+    }
+
+    static RequestTrace begin(boolean sampled) {
+        RequestTrace trace = new RequestTrace(sampled);
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    // Null outside of an HTTP request (startup, scheduled jobs)
+    static RequestTrace current() {
+        return CURRENT.get();
+    }
+
+    void recordStatement(String sql) {
+        queryCount++;
+        if (sampled && statements.size() < MAX_TRACED_STATEMENTS) {
+            statements.add(sql);
+        }
+    }
+
+    boolean isSampled() {
+        return sampled;
+    }
+
+    int getQueryCount() {
+        return queryCount;
+    }
+
+    List<String> getStatements() {
+        return statements;
+    }
+}
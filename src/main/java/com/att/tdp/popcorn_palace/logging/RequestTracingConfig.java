@@ -0,0 +1,16 @@
+package com.att.tdp.popcorn_palace.logging;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RequestTracingConfig {
+
+    // Hook the per-request SQL counter into Hibernate
+    @Bean
+    public HibernatePropertiesCustomizer sqlTraceCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlTraceInspector());
+    }
+}
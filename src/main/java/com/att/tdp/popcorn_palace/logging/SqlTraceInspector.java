@@ -0,0 +1,16 @@
+package com.att.tdp.popcorn_palace.logging;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Counts every SQL statement Hibernate prepares for the current request, and keeps the text of sampled ones
+class SqlTraceInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestTrace trace = RequestTrace.current();
+        if (trace != null) {
+            trace.recordStatement(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,42 @@
+package com.att.tdp.popcorn_palace.model;
+
+import java.time.LocalDateTime;
+import jakarta.persistence.*;
+import lombok.*;
+
+import org.springframework.data.domain.Persistable;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+// Marks this class as a JPA entity to be mapped to the "bookings_archive" table in the database
+// A booking of an archived showtime; keeps its original ID
+@Entity
+@Table(name = "bookings_archive", indexes = @Index(name = "idx_bookings_archive_showtime_id", columnList = "showtime_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedBooking implements Persistable<Long> {
+    @Id
+    private Long id;
+
+    // Refers to an ArchivedShowtime by its original showtime ID
+    @Column(name = "showtime_id", nullable = false)
+    private Long showtimeId;
+
+    @Column(nullable = false)
+    private String userId;
+
+    @Column(nullable = false)
+    private int seatNumber;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    // Always inserted, never updated
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return true;
+    }
+}
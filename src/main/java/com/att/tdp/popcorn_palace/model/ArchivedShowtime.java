@@ -0,0 +1,47 @@
+package com.att.tdp.popcorn_palace.model;
+
+import java.time.LocalDateTime;
+import jakarta.persistence.*;
+import lombok.*;
+
+import org.springframework.data.domain.Persistable;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+// Marks this class as a JPA entity to be mapped to the "showtimes_archive" table in the database
+// A finished showtime moved out of the hot "showtimes" table; keeps its original ID
+@Entity
+@Table(name = "showtimes_archive", indexes = @Index(name = "idx_showtimes_archive_movie_id", columnList = "movie_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedShowtime implements Persistable<Long> {
+    @Id
+    private Long id;
+
+    // Plain ID instead of a relationship, so archived rows never block deleting a movie
+    @Column(name = "movie_id", nullable = false)
+    private Long movieId;
+
+    @Column(nullable = false)
+    private String theater;
+
+    private Double price;
+
+    @Column(nullable = false)
+    private LocalDateTime startTime;
+
+    @Column(nullable = false)
+    private LocalDateTime endTime;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    // Archive rows are written once, so skip the select-before-insert Spring Data does for assigned IDs
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return true;
+    }
+}
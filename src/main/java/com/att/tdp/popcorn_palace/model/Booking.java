@@ -6,7 +6,10 @@ import lombok.*;
 // Marks this class as a JPA entity to be mapped to the "bookings" table in the database
 // Represents a ticket booking for a specific showtime, by a specific user and seat
 @Entity
-@Table(name = "bookings")
+// A seat can be booked once per showtime; the constraint catches bookings racing past the controller's check
+@Table(name = "bookings", indexes = @Index(name = "idx_bookings_showtime_id", columnList = "showtime_id"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_bookings_showtime_seat",
+                columnNames = { "showtime_id", "seat_number" }))
 @Getter
 @Setter
 @NoArgsConstructor
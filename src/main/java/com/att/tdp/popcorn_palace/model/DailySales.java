@@ -0,0 +1,37 @@
+package com.att.tdp.popcorn_palace.model;
+
+import java.time.LocalDate;
+import jakarta.persistence.*;
+import lombok.*;
+
+// Marks this class as a JPA entity to be mapped to the "daily_sales" table in the database
+// Running totals of sold seats and revenue per show day, movie and theater, rolled up from the
+// sales_deltas appended by booking writes, so reports never scan the bookings table
+@Entity
+@Table(name = "daily_sales", uniqueConstraints = @UniqueConstraint(columnNames = { "sales_date", "movie_id",
+        "theater" }))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailySales {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Day of the show (from the showtime start time), not the day the booking was made
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Column(name = "movie_id", nullable = false)
+    private Long movieId;
+
+    @Column(name = "theater", nullable = false)
+    private String theater;
+
+    @Column(nullable = false)
+    private long soldSeats;
+
+    @Column(nullable = false)
+    private double revenue;
+}
@@ -0,0 +1,30 @@
+package com.att.tdp.popcorn_palace.model;
+
+import java.time.LocalDateTime;
+import jakarta.persistence.*;
+import lombok.*;
+
+import org.springframework.data.domain.Persistable;
+
+// Marks this class as a JPA entity to be mapped to the "job_markers" table in the database
+// Records that a one-time job has run. The name is the primary key, so when several instances
+// race to run the job, only the first insert commits.
+@Entity
+@Table(name = "job_markers")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobMarker implements Persistable<String> {
+    @Id
+    private String id;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // Always insert, so a second instance hits the primary key instead of updating the marker
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
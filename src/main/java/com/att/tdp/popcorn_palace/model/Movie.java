@@ -3,10 +3,16 @@ package com.att.tdp.popcorn_palace.model;
 import jakarta.persistence.*;
 import lombok.*;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 // Marks this class as a JPA entity to be mapped to the "movies" table in the database
 // Represents a movie with its details (title, genre, duration, rating, release year)
 @Entity
 @Table(name = "movies")
+// Read far more than written, so kept in the second-level cache (see ehcache.xml)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,36 @@
+package com.att.tdp.popcorn_palace.model;
+
+import java.time.LocalDate;
+import jakarta.persistence.*;
+import lombok.*;
+
+// Marks this class as a JPA entity to be mapped to the "sales_deltas" table in the database
+// A change to one daily_sales bucket, appended by a booking write in its own transaction and
+// removed once the rollup job has added it to daily_sales
+@Entity
+@Table(name = "sales_deltas")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesDelta {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Column(name = "movie_id", nullable = false)
+    private Long movieId;
+
+    @Column(name = "theater", nullable = false)
+    private String theater;
+
+    // Negative for cancelled or moved bookings
+    @Column(nullable = false)
+    private long seats;
+
+    @Column(nullable = false)
+    private double revenue;
+}
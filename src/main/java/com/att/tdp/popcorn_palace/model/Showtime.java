@@ -4,10 +4,16 @@ import java.time.LocalDateTime;
 import jakarta.persistence.*;
 import lombok.*;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 // Marks this class as a JPA entity to be mapped to the "showtimes" table in the database
 // Represents a single showtime, including time, price, theater and linked movie
 @Entity
-@Table(name = "showtimes")
+@Table(name = "showtimes", indexes = @Index(name = "idx_showtimes_end_time", columnList = "end_time"))
+// Every booking looks up its showtime, so showtimes share the second-level cache with movies
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 @NoArgsConstructor
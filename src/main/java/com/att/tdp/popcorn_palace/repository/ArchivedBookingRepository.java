@@ -0,0 +1,13 @@
+package com.att.tdp.popcorn_palace.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.att.tdp.popcorn_palace.model.ArchivedBooking;
+
+@Repository
+public interface ArchivedBookingRepository extends JpaRepository<ArchivedBooking, Long> {
+    List<ArchivedBooking> findByShowtimeId(Long showtimeId);
+}
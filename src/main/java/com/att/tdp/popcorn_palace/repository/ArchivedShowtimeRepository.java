@@ -0,0 +1,13 @@
+package com.att.tdp.popcorn_palace.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.att.tdp.popcorn_palace.model.ArchivedShowtime;
+
+@Repository
+public interface ArchivedShowtimeRepository extends JpaRepository<ArchivedShowtime, Long> {
+    List<ArchivedShowtime> findByMovieId(Long movieId);
+}
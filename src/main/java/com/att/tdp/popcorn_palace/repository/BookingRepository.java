@@ -1,8 +1,10 @@
 package com.att.tdp.popcorn_palace.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.att.tdp.popcorn_palace.model.Booking;
@@ -10,4 +12,18 @@ import com.att.tdp.popcorn_palace.model.Booking;
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
     List<Booking> findByShowtimeId(Long showtimeId);
+
+    List<Booking> findByShowtimeIdIn(Collection<Long> showtimeIds);
+
+    long countByShowtimeId(Long showtimeId);
+
+    // Booking totals per showtime, used once to seed the daily sales aggregates
+    @Query("select b.showtime.id as showtimeId, count(b) as bookings from Booking b group by b.showtime.id")
+    List<ShowtimeBookingCount> countGroupedByShowtime();
+
+    interface ShowtimeBookingCount {
+        Long getShowtimeId();
+
+        long getBookings();
+    }
 }
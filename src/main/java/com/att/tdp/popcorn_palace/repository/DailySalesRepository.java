@@ -0,0 +1,24 @@
+package com.att.tdp.popcorn_palace.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.att.tdp.popcorn_palace.model.DailySales;
+
+@Repository
+public interface DailySalesRepository extends JpaRepository<DailySales, Long> {
+    List<DailySales> findBySalesDateBetween(LocalDate from, LocalDate to);
+
+    // Adjust an existing bucket in place; returns 0 when the bucket does not exist yet
+    @Modifying
+    @Query("update DailySales d set d.soldSeats = d.soldSeats + :seats, d.revenue = d.revenue + :revenue "
+            + "where d.salesDate = :salesDate and d.movieId = :movieId and d.theater = :theater")
+    int increment(@Param("salesDate") LocalDate salesDate, @Param("movieId") Long movieId,
+            @Param("theater") String theater, @Param("seats") long seats, @Param("revenue") double revenue);
+}
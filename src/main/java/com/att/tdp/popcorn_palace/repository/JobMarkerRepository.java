@@ -0,0 +1,10 @@
+package com.att.tdp.popcorn_palace.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.att.tdp.popcorn_palace.model.JobMarker;
+
+@Repository
+public interface JobMarkerRepository extends JpaRepository<JobMarker, String> {
+}
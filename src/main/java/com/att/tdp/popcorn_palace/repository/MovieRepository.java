@@ -2,12 +2,18 @@ package com.att.tdp.popcorn_palace.repository;
 
 import java.util.Optional;
 
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.att.tdp.popcorn_palace.model.Movie;
 
 @Repository
 public interface MovieRepository extends JpaRepository<Movie, Long> {
+    // Served from the query cache until the movies table changes
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Movie> findByTitle(String title);
 }
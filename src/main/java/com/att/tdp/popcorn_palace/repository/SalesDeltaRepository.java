@@ -0,0 +1,18 @@
+package com.att.tdp.popcorn_palace.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.att.tdp.popcorn_palace.model.SalesDelta;
+
+@Repository
+public interface SalesDeltaRepository extends JpaRepository<SalesDelta, Long> {
+    // Oldest deltas waiting to be rolled up, one batch at a time. FOR UPDATE SKIP LOCKED lets rollup jobs
+    // on other instances take a disjoint batch. Native for the same reason as ShowtimeRepository.lockEndedBefore.
+    @Query(value = "select * from sales_deltas order by id limit :limit for update skip locked", nativeQuery = true)
+    List<SalesDelta> lockOldest(@Param("limit") int limit);
+}
@@ -1,13 +1,29 @@
 package com.att.tdp.popcorn_palace.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.att.tdp.popcorn_palace.model.Showtime;
 
 public interface ShowtimeRepository extends JpaRepository<Showtime, Long> {
+    // Cached per movie ID; any insert/update/delete on showtimes invalidates it
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Showtime> findByMovieId(Long movieId);
 
     List<Showtime> findByTheater(String theater);
+
+    // Finished showtimes waiting to be moved to the archive, one batch at a time.
+    // Rows are locked with FOR UPDATE SKIP LOCKED, so archivers on other instances take a disjoint batch.
+    // Native, because Hibernate's PostgreSQL dialect renders PESSIMISTIC_WRITE as FOR NO KEY UPDATE, which H2 rejects.
+    @Query(value = "select * from showtimes where end_time < :cutoff order by id limit :limit for update skip locked",
+            nativeQuery = true)
+    List<Showtime> lockEndedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
 }
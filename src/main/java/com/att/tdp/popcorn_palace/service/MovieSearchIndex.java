@@ -0,0 +1,389 @@
+package com.att.tdp.popcorn_palace.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+
+// In-memory search index over movie titles and genres.
+// Prefix (typeahead) matches come from sorted title and token maps, typo-tolerant matches from a trigram index.
+// Writes are serialized; searches are lock-free and never touch the database.
+// Writes through this instance are applied on commit; writes through other instances show up with the next
+// resync, i.e. within popcorn-palace.search.resync-interval (plus the time to read the movies table).
+@Service
+public class MovieSearchIndex {
+    private static final Logger log = LoggerFactory.getLogger(MovieSearchIndex.class);
+
+    // Trigrams shared by more movies than this carry almost no signal and are skipped in fuzzy lookups
+    private static final int MAX_TRIGRAM_POSTINGS = 5000;
+    // Minimum Dice similarity between query and title/genre trigrams for a fuzzy match
+    private static final double MIN_FUZZY_SCORE = 0.4;
+
+    private final MovieRepository movieRepository;
+
+    private final Map<Long, IndexedMovie> movies = new ConcurrentHashMap<>();
+    // Normalized title -> movie IDs; sorted so that "title starts with the query" is a range scan
+    private final ConcurrentSkipListMap<String, Set<Long>> titleIndex = new ConcurrentSkipListMap<>();
+    // Title word -> movie IDs and genre word -> movie IDs; sorted so that a word prefix lookup is a range scan
+    private final ConcurrentSkipListMap<String, Set<Long>> titleTokenIndex = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<String, Set<Long>> genreTokenIndex = new ConcurrentSkipListMap<>();
+    // Trigram -> movie IDs
+    private final Map<String, Set<Long>> trigramIndex = new ConcurrentHashMap<>();
+
+    public MovieSearchIndex(MovieRepository movieRepository) {
+        this.movieRepository = movieRepository;
+    }
+
+    // Load every movie once the application is up; later changes are applied incrementally
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        reconcile();
+        log.info("Movie search index built with {} movies", movies.size());
+    }
+
+    // Pick up movies added, changed or deleted through other instances
+    @Scheduled(fixedDelayString = "${popcorn-palace.search.resync-interval:PT30S}",
+            initialDelayString = "${popcorn-palace.search.resync-interval:PT30S}")
+    public void resync() {
+        int changed = reconcile();
+        if (changed > 0) {
+            log.info("Movie search index resynced, {} movies changed", changed);
+        }
+    }
+
+    // Bring the index in line with the movies table, touching only the entries that differ, so searches
+    // running meanwhile never see a partial index. The table is read outside the lock: a local write
+    // committed while it is read may be reverted here and is restored by the next resync.
+    private int reconcile() {
+        List<Movie> current = movieRepository.findAll();
+        int changed = 0;
+        synchronized (this) {
+            Set<Long> present = new HashSet<>();
+            for (Movie movie : current) {
+                present.add(movie.getId());
+                IndexedMovie indexed = movies.get(movie.getId());
+                if (indexed == null || !sameMovie(indexed.movie, movie)) {
+                    unindex(movie.getId());
+                    add(movie);
+                    changed++;
+                }
+            }
+            for (Long movieId : new ArrayList<>(movies.keySet())) {
+                if (!present.contains(movieId)) {
+                    unindex(movieId);
+                    changed++;
+                }
+            }
+        }
+        return changed;
+    }
+
+    private static boolean sameMovie(Movie a, Movie b) {
+        return Objects.equals(a.getTitle(), b.getTitle()) && Objects.equals(a.getGenre(), b.getGenre())
+                && a.getDuration() == b.getDuration() && a.getRating() == b.getRating()
+                && a.getReleaseYear() == b.getReleaseYear();
+    }
+
+    // Add or replace a movie, once the surrounding transaction (if any) has committed
+    public void index(Movie movie) {
+        Movie snapshot = new Movie(movie.getId(), movie.getTitle(), movie.getGenre(), movie.getDuration(),
+                movie.getRating(), movie.getReleaseYear());
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                unindex(snapshot.getId());
+                add(snapshot);
+            }
+        });
+    }
+
+    // Drop a movie, once the surrounding transaction (if any) has committed
+    public void remove(Long movieId) {
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                unindex(movieId);
+            }
+        });
+    }
+
+    public int size() {
+        return movies.size();
+    }
+
+    // Best matches first, in tiers: titles starting with the query, then titles where every query word
+    // starts a title word, then matches through genre words, then fuzzy (misspelled) matches.
+    // Each tier is exhausted before the next one is read, so truncating to `limit` never drops a
+    // better match; within a tier, results follow the sorted index (shorter matching words first).
+    public List<Movie> search(String query, int limit) {
+        String normalized = normalize(query);
+        List<String> queryTokens = tokenize(normalized);
+        if (queryTokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        List<Movie> results = new ArrayList<>(limit);
+        Set<Long> seen = new HashSet<>();
+        collect(prefixRange(titleIndex, normalized).values(), queryTokens, false, results, seen, limit);
+        if (results.size() < limit) {
+            collectWordMatches(queryTokens, false, results, seen, limit);
+        }
+        if (results.size() < limit) {
+            collectWordMatches(queryTokens, true, results, seen, limit);
+        }
+        if (results.size() < limit) {
+            for (IndexedMovie candidate : fuzzyMatches(normalized)) {
+                if (results.size() == limit) {
+                    break;
+                }
+                if (seen.add(candidate.movie.getId())) {
+                    results.add(candidate.movie);
+                }
+            }
+        }
+        return results;
+    }
+
+    // Drive the lookup from the most selective query word and verify the others against each candidate
+    private void collectWordMatches(List<String> queryTokens, boolean includeGenre, List<Movie> results,
+            Set<Long> seen, int limit) {
+        String driver = queryTokens.get(0);
+        if (queryTokens.size() > 1) {
+            int driverSize = Integer.MAX_VALUE;
+            for (String token : queryTokens) {
+                int size = postingCount(prefixRange(titleTokenIndex, token), driverSize);
+                if (includeGenre && size < driverSize) {
+                    size += postingCount(prefixRange(genreTokenIndex, token), driverSize - size);
+                }
+                if (size < driverSize) {
+                    driver = token;
+                    driverSize = size;
+                }
+            }
+        }
+
+        collect(prefixRange(titleTokenIndex, driver).values(), queryTokens, includeGenre, results, seen, limit);
+        if (includeGenre && results.size() < limit) {
+            collect(prefixRange(genreTokenIndex, driver).values(), queryTokens, true, results, seen, limit);
+        }
+    }
+
+    private void collect(Collection<Set<Long>> postings, List<String> queryTokens, boolean includeGenre,
+            List<Movie> results, Set<Long> seen, int limit) {
+        for (Set<Long> ids : postings) {
+            for (Long id : ids) {
+                if (results.size() == limit) {
+                    return;
+                }
+                if (seen.contains(id)) {
+                    continue;
+                }
+                IndexedMovie candidate = movies.get(id);
+                if (candidate != null && candidate.matchesAllPrefixes(queryTokens, includeGenre)) {
+                    results.add(candidate.movie);
+                    seen.add(id);
+                }
+            }
+        }
+    }
+
+    // Number of postings in a range, counting no further than `bound`
+    private static int postingCount(Map<String, Set<Long>> range, int bound) {
+        int size = 0;
+        for (Set<Long> ids : range.values()) {
+            size += ids.size();
+            if (size >= bound) {
+                break;
+            }
+        }
+        return size;
+    }
+
+    // Score movies by the number of query trigrams they share, then keep the ones that are similar enough
+    private List<IndexedMovie> fuzzyMatches(String normalized) {
+        Set<String> queryGrams = trigrams(normalized);
+        if (normalized.length() < 3 || queryGrams.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Integer> shared = new HashMap<>();
+        for (String gram : queryGrams) {
+            Set<Long> ids = trigramIndex.get(gram);
+            if (ids == null || ids.size() > MAX_TRIGRAM_POSTINGS) {
+                continue;
+            }
+            for (Long id : ids) {
+                shared.merge(id, 1, Integer::sum);
+            }
+        }
+
+        // A candidate needs enough overlap to possibly reach MIN_FUZZY_SCORE against the query alone
+        int minShared = Math.max(1, (int) Math.ceil(MIN_FUZZY_SCORE * queryGrams.size() / 2));
+        List<Map.Entry<IndexedMovie, Double>> scored = new ArrayList<>();
+        shared.forEach((id, count) -> {
+            IndexedMovie candidate = movies.get(id);
+            if (count < minShared || candidate == null) {
+                return;
+            }
+            double score = Math.max(dice(queryGrams, candidate.titleGrams), dice(queryGrams, candidate.genreGrams));
+            if (score >= MIN_FUZZY_SCORE) {
+                scored.add(Map.entry(candidate, score));
+            }
+        });
+        scored.sort(Map.Entry.<IndexedMovie, Double>comparingByValue().reversed());
+
+        List<IndexedMovie> matches = new ArrayList<>(scored.size());
+        scored.forEach(match -> matches.add(match.getKey()));
+        return matches;
+    }
+
+    private static Map<String, Set<Long>> prefixRange(ConcurrentSkipListMap<String, Set<Long>> index,
+            String prefix) {
+        return index.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    private void add(Movie movie) {
+        IndexedMovie indexed = new IndexedMovie(movie);
+        movies.put(movie.getId(), indexed);
+        addSortedPosting(titleIndex, indexed.normalizedTitle, movie.getId());
+        for (String token : indexed.titleTokens) {
+            addSortedPosting(titleTokenIndex, token, movie.getId());
+        }
+        for (String token : indexed.genreTokens) {
+            addSortedPosting(genreTokenIndex, token, movie.getId());
+        }
+        for (String gram : indexed.allGrams()) {
+            trigramIndex.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(movie.getId());
+        }
+    }
+
+    // Postings of the sorted maps are ordered by ID as well, so results within a tier are stable
+    private static void addSortedPosting(Map<String, Set<Long>> index, String key, Long movieId) {
+        index.computeIfAbsent(key, k -> new ConcurrentSkipListSet<>()).add(movieId);
+    }
+
+    private void unindex(Long movieId) {
+        IndexedMovie indexed = movies.remove(movieId);
+        if (indexed == null) {
+            return;
+        }
+        removePosting(titleIndex, indexed.normalizedTitle, movieId);
+        for (String token : indexed.titleTokens) {
+            removePosting(titleTokenIndex, token, movieId);
+        }
+        for (String token : indexed.genreTokens) {
+            removePosting(genreTokenIndex, token, movieId);
+        }
+        for (String gram : indexed.allGrams()) {
+            removePosting(trigramIndex, gram, movieId);
+        }
+    }
+
+    private static void removePosting(Map<String, Set<Long>> index, String key, Long movieId) {
+        index.computeIfPresent(key, (k, ids) -> {
+            ids.remove(movieId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT).trim();
+    }
+
+    static List<String> tokenize(String normalized) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : normalized.split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    // Word-padded trigrams, so "matrix" also yields " ma" and "ix "
+    static Set<String> trigrams(String normalized) {
+        Set<String> grams = new HashSet<>();
+        for (String token : tokenize(normalized)) {
+            String padded = " " + token + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                grams.add(padded.substring(i, i + 3));
+            }
+        }
+        return grams;
+    }
+
+    private static double dice(Set<String> queryGrams, Set<String> grams) {
+        if (grams.isEmpty()) {
+            return 0;
+        }
+        int common = 0;
+        for (String gram : queryGrams) {
+            if (grams.contains(gram)) {
+                common++;
+            }
+        }
+        return 2.0 * common / (queryGrams.size() + grams.size());
+    }
+
+    // Immutable, pre-normalized view of an indexed movie
+    private static final class IndexedMovie {
+        private final Movie movie;
+        private final String normalizedTitle;
+        private final Set<String> titleTokens;
+        private final Set<String> genreTokens;
+        private final Set<String> titleGrams;
+        private final Set<String> genreGrams;
+
+        private IndexedMovie(Movie movie) {
+            this.movie = movie;
+            this.normalizedTitle = normalize(movie.getTitle());
+            String normalizedGenre = normalize(movie.getGenre());
+            this.titleTokens = new HashSet<>(tokenize(normalizedTitle));
+            this.genreTokens = new HashSet<>(tokenize(normalizedGenre));
+            this.titleGrams = trigrams(normalizedTitle);
+            this.genreGrams = trigrams(normalizedGenre);
+        }
+
+        private Set<String> allGrams() {
+            Set<String> grams = new HashSet<>(titleGrams);
+            grams.addAll(genreGrams);
+            return grams;
+        }
+
+        // Every query word starts a title word (or, with includeGenre, a title or genre word)
+        private boolean matchesAllPrefixes(List<String> queryTokens, boolean includeGenre) {
+            for (String queryToken : queryTokens) {
+                if (!hasTokenStartingWith(titleTokens, queryToken)
+                        && !(includeGenre && hasTokenStartingWith(genreTokens, queryToken))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean hasTokenStartingWith(Iterable<String> tokens, String prefix) {
+            for (String token : tokens) {
+                if (token.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
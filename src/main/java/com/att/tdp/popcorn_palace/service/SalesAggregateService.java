@@ -0,0 +1,178 @@
+package com.att.tdp.popcorn_palace.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.att.tdp.popcorn_palace.model.DailySales;
+import com.att.tdp.popcorn_palace.model.JobMarker;
+import com.att.tdp.popcorn_palace.model.SalesDelta;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.BookingRepository.ShowtimeBookingCount;
+import com.att.tdp.popcorn_palace.repository.DailySalesRepository;
+import com.att.tdp.popcorn_palace.repository.JobMarkerRepository;
+import com.att.tdp.popcorn_palace.repository.SalesDeltaRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+
+// Maintains the daily_sales aggregates incrementally. A booking write appends a sales_deltas row in its own
+// transaction, an insert that never waits on an aggregate row lock. A background job adds committed deltas
+// to daily_sales and deletes them in the same transaction, so every delta is counted exactly once even when
+// an instance dies mid-rollup. Reports lag bookings by up to one flush interval.
+@Service
+public class SalesAggregateService {
+    public static final String BACKFILL_MARKER = "daily-sales-backfill";
+    private static final Logger log = LoggerFactory.getLogger(SalesAggregateService.class);
+    // Buckets are updated in a fixed order, so rollups on two instances cannot deadlock on daily_sales rows
+    private static final Comparator<Bucket> BUCKET_ORDER = Comparator.comparing(Bucket::salesDate)
+            .thenComparing(Bucket::movieId)
+            .thenComparing(Bucket::theater);
+    private final DailySalesRepository dailySalesRepository;
+    private final SalesDeltaRepository salesDeltaRepository;
+    private final JobMarkerRepository jobMarkerRepository;
+    private final BookingRepository bookingRepository;
+    private final ShowtimeRepository showtimeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public SalesAggregateService(DailySalesRepository dailySalesRepository,
+            SalesDeltaRepository salesDeltaRepository, JobMarkerRepository jobMarkerRepository,
+            BookingRepository bookingRepository, ShowtimeRepository showtimeRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${popcorn-palace.reports.flush-batch-size:1000}") int batchSize) {
+        this.dailySalesRepository = dailySalesRepository;
+        this.salesDeltaRepository = salesDeltaRepository;
+        this.jobMarkerRepository = jobMarkerRepository;
+        this.bookingRepository = bookingRepository;
+        this.showtimeRepository = showtimeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    // Count a new booking towards its showtime's bucket
+    public void recordBooking(Showtime showtime) {
+        adjust(showtime, 1);
+    }
+
+    // Take a cancelled or moved booking out of its showtime's bucket
+    public void removeBooking(Showtime showtime) {
+        adjust(showtime, -1);
+    }
+
+    public void adjust(Showtime showtime, long seats) {
+        adjust(showtime.getStartTime().toLocalDate(), showtime.getMovie().getId(), showtime.getTheater(),
+                showtime.getPrice(), seats);
+    }
+
+    // Add (or subtract, for negative seats) to the bucket; commits or rolls back with the calling transaction
+    public void adjust(LocalDate salesDate, Long movieId, String theater, Double price, long seats) {
+        if (seats == 0) {
+            return;
+        }
+        salesDeltaRepository.save(new SalesDelta(null, salesDate, movieId, theater, seats,
+                seats * (price != null ? price : 0.0)));
+    }
+
+    // Roll every committed delta up into daily_sales, one batch per transaction. A failed batch rolls back
+    // with its deltas still in place and is picked up by the next run.
+    @Scheduled(fixedDelayString = "${popcorn-palace.reports.flush-interval:PT1S}")
+    public void flush() {
+        try {
+            int batch;
+            do {
+                batch = rollUpBatch();
+            } while (batch == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("Failed to roll up daily sales, will retry: {}", e.getMessage());
+        }
+    }
+
+    // When another instance creates the same bucket first, the insert hits the unique constraint
+    // and the retried batch finds the row
+    private int rollUpBatch() {
+        try {
+            return transactionTemplate.execute(status -> rollUp());
+        } catch (DataIntegrityViolationException e) {
+            return transactionTemplate.execute(status -> rollUp());
+        }
+    }
+
+    private int rollUp() {
+        List<SalesDelta> deltas = salesDeltaRepository.lockOldest(batchSize);
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        Map<Bucket, Delta> buckets = new TreeMap<>(BUCKET_ORDER);
+        for (SalesDelta delta : deltas) {
+            buckets.merge(new Bucket(delta.getSalesDate(), delta.getMovieId(), delta.getTheater()),
+                    new Delta(delta.getSeats(), delta.getRevenue()), Delta::plus);
+        }
+        buckets.forEach(this::upsert);
+        salesDeltaRepository.deleteAllByIdInBatch(deltas.stream().map(SalesDelta::getId).toList());
+        return deltas.size();
+    }
+
+    private void upsert(Bucket bucket, Delta delta) {
+        int updated = dailySalesRepository.increment(bucket.salesDate(), bucket.movieId(), bucket.theater(),
+                delta.seats(), delta.revenue());
+        if (updated == 0) {
+            dailySalesRepository.saveAndFlush(new DailySales(null, bucket.salesDate(), bucket.movieId(),
+                    bucket.theater(), delta.seats(), delta.revenue()));
+        }
+    }
+
+    // Seed the aggregates from existing bookings the first time the application runs against an empty table.
+    // The marker row is inserted first in the same transaction: an instance starting concurrently blocks on
+    // that insert and fails once the seeding has committed, so the bookings are seeded exactly once.
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int showtimes;
+        try {
+            showtimes = transactionTemplate.execute(status -> seed());
+        } catch (DataIntegrityViolationException e) {
+            return;
+        }
+        flush();
+        if (showtimes > 0) {
+            log.info("Seeded daily sales aggregates from bookings of {} showtimes", showtimes);
+        }
+    }
+
+    private int seed() {
+        jobMarkerRepository.saveAndFlush(new JobMarker(BACKFILL_MARKER, LocalDateTime.now()));
+        // Aggregates kept before the marker existed are already complete
+        if (dailySalesRepository.count() > 0 || salesDeltaRepository.count() > 0) {
+            return 0;
+        }
+        int showtimes = 0;
+        for (ShowtimeBookingCount count : bookingRepository.countGroupedByShowtime()) {
+            showtimeRepository.findById(count.getShowtimeId())
+                    .ifPresent(showtime -> adjust(showtime, count.getBookings()));
+            showtimes++;
+        }
+        return showtimes;
+    }
+
+    private record Bucket(LocalDate salesDate, Long movieId, String theater) {
+    }
+
+    private record Delta(long seats, double revenue) {
+        Delta plus(Delta other) {
+            return new Delta(seats + other.seats, revenue + other.revenue);
+        }
+    }
+}
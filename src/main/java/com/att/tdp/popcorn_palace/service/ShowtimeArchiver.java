@@ -0,0 +1,101 @@
+package com.att.tdp.popcorn_palace.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.att.tdp.popcorn_palace.model.ArchivedBooking;
+import com.att.tdp.popcorn_palace.model.ArchivedShowtime;
+import com.att.tdp.popcorn_palace.model.Booking;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.ArchivedBookingRepository;
+import com.att.tdp.popcorn_palace.repository.ArchivedShowtimeRepository;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+
+// Moves finished showtimes and their bookings out of the hot tables into the archive tables,
+// so lookups on "showtimes" and "bookings" only ever scan current and upcoming shows.
+// Daily sales aggregates are left untouched, so reports still cover archived shows.
+// Safe to run on every instance at once: each batch locks its rows and skips rows locked by another run.
+@Service
+public class ShowtimeArchiver {
+    private static final Logger log = LoggerFactory.getLogger(ShowtimeArchiver.class);
+    private final ShowtimeRepository showtimeRepository;
+    private final BookingRepository bookingRepository;
+    private final ArchivedShowtimeRepository archivedShowtimeRepository;
+    private final ArchivedBookingRepository archivedBookingRepository;
+    private final ShowtimeReadCoalescer showtimeReadCoalescer;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final int batchSize;
+
+    public ShowtimeArchiver(ShowtimeRepository showtimeRepository, BookingRepository bookingRepository,
+            ArchivedShowtimeRepository archivedShowtimeRepository,
+            ArchivedBookingRepository archivedBookingRepository, ShowtimeReadCoalescer showtimeReadCoalescer,
+            PlatformTransactionManager transactionManager,
+            @Value("${popcorn-palace.archive.retention:P1D}") Duration retention,
+            @Value("${popcorn-palace.archive.batch-size:500}") int batchSize) {
+        this.showtimeRepository = showtimeRepository;
+        this.bookingRepository = bookingRepository;
+        this.archivedShowtimeRepository = archivedShowtimeRepository;
+        this.archivedBookingRepository = archivedBookingRepository;
+        this.showtimeReadCoalescer = showtimeReadCoalescer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = retention;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${popcorn-palace.archive.cron:0 30 4 * * *}")
+    public void archiveOnSchedule() {
+        archiveEndedBefore(LocalDateTime.now().minus(retention));
+    }
+
+    // Archive every showtime that ended before the cutoff; each batch commits on its own
+    public int archiveEndedBefore(LocalDateTime cutoff) {
+        int archived = 0;
+        int batch;
+        do {
+            batch = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            archived += batch;
+        } while (batch == batchSize);
+
+        if (archived > 0) {
+            log.info("Archived {} showtimes that ended before {}", archived, cutoff);
+        }
+        return archived;
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Showtime> showtimes = showtimeRepository.lockEndedBefore(cutoff, batchSize);
+        if (showtimes.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime archivedAt = LocalDateTime.now();
+        List<Long> showtimeIds = showtimes.stream().map(Showtime::getId).toList();
+        List<Booking> bookings = bookingRepository.findByShowtimeIdIn(showtimeIds);
+
+        archivedShowtimeRepository.saveAll(showtimes.stream()
+                .map(showtime -> new ArchivedShowtime(showtime.getId(), showtime.getMovie().getId(),
+                        showtime.getTheater(), showtime.getPrice(), showtime.getStartTime(), showtime.getEndTime(),
+                        archivedAt))
+                .toList());
+        archivedBookingRepository.saveAll(bookings.stream()
+                .map(booking -> new ArchivedBooking(booking.getId(), booking.getShowtime().getId(),
+                        booking.getUserId(), booking.getSeatNumber(), archivedAt))
+                .toList());
+
+        // Bookings first, they reference the showtimes through a foreign key
+        bookingRepository.deleteAllByIdInBatch(bookings.stream().map(Booking::getId).toList());
+        showtimeRepository.deleteAllByIdInBatch(showtimeIds);
+        showtimeIds.forEach(showtimeReadCoalescer::showtimeChanged);
+        return showtimes.size();
+    }
+}
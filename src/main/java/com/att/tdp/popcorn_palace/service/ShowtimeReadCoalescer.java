@@ -0,0 +1,72 @@
+package com.att.tdp.popcorn_palace.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.att.tdp.popcorn_palace.config.ReplicaStalenessPolicy;
+import com.att.tdp.popcorn_palace.config.RoutingDataSource;
+import com.att.tdp.popcorn_palace.model.Booking;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+
+// Coalesces identical concurrent reads of a showtime and of its bookings into one database call.
+// Writes detach in-flight reads of the showtime once they commit, so nobody arriving after a write
+// is handed a result loaded before it.
+// Callers must not be in a transaction: the one caller that loads opens its own read-only transaction, so
+// callers parked on its result hold no database connection.
+@Service
+public class ShowtimeReadCoalescer {
+    private final ShowtimeRepository showtimeRepository;
+    private final BookingRepository bookingRepository;
+    private final ReplicaStalenessPolicy replicaStalenessPolicy;
+    private final TransactionTemplate readOnly;
+    private final SingleFlight<Long, Optional<Showtime>> showtimeReads;
+    private final SingleFlight<Long, List<Booking>> bookingReads;
+
+    public ShowtimeReadCoalescer(ShowtimeRepository showtimeRepository, BookingRepository bookingRepository,
+            ReplicaStalenessPolicy replicaStalenessPolicy, PlatformTransactionManager transactionManager,
+            @Value("${popcorn-palace.coalescing.max-in-flight:1024}") int maxInFlight) {
+        this.showtimeRepository = showtimeRepository;
+        this.bookingRepository = bookingRepository;
+        this.replicaStalenessPolicy = replicaStalenessPolicy;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.showtimeReads = new SingleFlight<>(maxInFlight);
+        this.bookingReads = new SingleFlight<>(maxInFlight);
+    }
+
+    public Optional<Showtime> findShowtime(Long showtimeId) {
+        return showtimeReads.execute(showtimeId,
+                () -> readOnly.execute(status -> showtimeRepository.findById(showtimeId)));
+    }
+
+    public List<Booking> findBookings(Long showtimeId) {
+        return bookingReads.execute(showtimeId, () -> {
+            // Right after a booking write the replica may still miss it, so read this showtime from the primary
+            if (replicaStalenessPolicy.requiresPrimary(showtimeId)) {
+                return RoutingDataSource.onPrimary(
+                        () -> readOnly.execute(status -> bookingRepository.findByShowtimeId(showtimeId)));
+            }
+            return readOnly.execute(status -> bookingRepository.findByShowtimeId(showtimeId));
+        });
+    }
+
+    // The showtime itself was updated or removed
+    public void showtimeChanged(Long showtimeId) {
+        AfterCommit.run(() -> {
+            showtimeReads.forget(showtimeId);
+            bookingReads.forget(showtimeId);
+        });
+    }
+
+    // A booking of the showtime was created, moved or cancelled
+    public void bookingsChanged(Long showtimeId) {
+        AfterCommit.run(() -> bookingReads.forget(showtimeId));
+    }
+}
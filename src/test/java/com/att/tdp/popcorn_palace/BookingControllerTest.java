@@ -11,15 +11,20 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import com.att.tdp.popcorn_palace.config.ReplicaStalenessPolicy;
 import com.att.tdp.popcorn_palace.controller.BookingController;
 import com.att.tdp.popcorn_palace.model.Booking;
 import com.att.tdp.popcorn_palace.model.Showtime;
 import com.att.tdp.popcorn_palace.repository.BookingRepository;
 import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.att.tdp.popcorn_palace.service.SalesAggregateService;
+import com.att.tdp.popcorn_palace.service.ShowtimeReadCoalescer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @WebMvcTest(BookingController.class)
@@ -34,6 +39,15 @@ public class BookingControllerTest {
     @MockBean
     private ShowtimeRepository showtimeRepository;
 
+    @MockBean
+    private SalesAggregateService salesAggregateService;
+
+    @MockBean
+    private ShowtimeReadCoalescer showtimeReadCoalescer;
+
+    @MockBean
+    private ReplicaStalenessPolicy replicaStalenessPolicy;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -53,6 +67,7 @@ public class BookingControllerTest {
                 .content(objectMapper.writeValueAsString(booking)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.seatNumber").value(5));
+        verify(salesAggregateService).recordBooking(showtime);
     }
 
     @Test
@@ -71,5 +86,6 @@ public class BookingControllerTest {
                 .content(objectMapper.writeValueAsString(newBooking)))
                 .andExpect(status().isConflict())
                 .andExpect(content().string("Error: Seat is already taken!"));
+        verify(salesAggregateService, never()).recordBooking(any(Showtime.class));
     }
 }
@@ -0,0 +1,124 @@
+package com.att.tdp.popcorn_palace;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class CacheControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void testGetMovieById_servedFromSecondLevelCache() throws Exception {
+        long movieId = createMovie(new Movie(null, "Cache Hit", "Drama", 100, 7.0, 2001));
+        long hitsBefore = statistics.getSecondLevelCacheHitCount();
+
+        mockMvc.perform(get("/movies/" + movieId)).andExpect(status().isOk());
+        mockMvc.perform(get("/movies/" + movieId)).andExpect(status().isOk());
+
+        assertTrue(statistics.getSecondLevelCacheHitCount() > hitsBefore);
+        mockMvc.perform(get("/cache/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statisticsEnabled").value(true))
+                .andExpect(jsonPath("$.secondLevelCache.hits").isNumber())
+                .andExpect(jsonPath("$.regions.movies.hits").isNumber());
+    }
+
+    @Test
+    void testUpdateMovie_evictsCachedEntity() throws Exception {
+        long movieId = createMovie(new Movie(null, "Cache Update", "Drama", 100, 7.0, 2001));
+        mockMvc.perform(get("/movies/" + movieId))
+                .andExpect(jsonPath("$.genre").value("Drama"));
+
+        mockMvc.perform(post("/movies/update/Cache Update")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new Movie(null, "Cache Update", "Comedy", 100, 7.0, 2001))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/movies/" + movieId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.genre").value("Comedy"));
+    }
+
+    @Test
+    void testAddMovie_invalidatesCachedTitleLookup() throws Exception {
+        Movie movie = new Movie(null, "Cache Query", "Drama", 100, 7.0, 2001);
+        // The first add caches an empty findByTitle result; the insert must invalidate it
+        createMovie(movie);
+
+        mockMvc.perform(post("/movies")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(movie)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void testDeleteShowtime_invalidatesCachedMovieShowtimes() throws Exception {
+        long movieId = createMovie(new Movie(null, "Cache Showtimes", "Drama", 100, 7.0, 2001));
+        String showtimeJson = "{\"movie\":{\"id\":" + movieId + "},\"theater\":\"Cache Hall\",\"price\":20.0,"
+                + "\"startTime\":\"2030-01-01T18:00:00\",\"endTime\":\"2030-01-01T20:00:00\"}";
+        String response = mockMvc.perform(post("/showtimes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(showtimeJson))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        long showtimeId = objectMapper.readTree(response).get("id").asLong();
+
+        mockMvc.perform(get("/showtimes/movie/" + movieId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(showtimeId));
+
+        mockMvc.perform(delete("/showtimes/" + showtimeId))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/showtimes/" + showtimeId))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/showtimes/movie/" + movieId))
+                .andExpect(status().isNoContent());
+    }
+
+    private long createMovie(Movie movie) throws Exception {
+        String response = mockMvc.perform(post("/movies")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(movie)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode saved = objectMapper.readTree(response);
+        return saved.get("id").asLong();
+    }
+}
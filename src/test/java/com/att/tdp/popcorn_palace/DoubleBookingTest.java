@@ -0,0 +1,91 @@
+package com.att.tdp.popcorn_palace;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import com.att.tdp.popcorn_palace.model.Booking;
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Concurrent requests for the same seat all pass the controller's "seat taken" check before any of them
+// inserts; the unique (showtime, seat) constraint must let exactly one through and turn the rest into 409s
+@SpringBootTest
+@AutoConfigureMockMvc
+public class DoubleBookingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Test
+    void testCreateBooking_concurrentRequestsForOneSeat_bookItOnce() throws Exception {
+        Movie movie = movieRepository.save(new Movie(null, "Double Booking Movie", "Drama", 100, 7.0, 2001));
+        LocalDateTime start = LocalDateTime.now().plusDays(3);
+        Showtime showtime = showtimeRepository.save(
+                new Showtime(null, movie, "Double Booking Hall", 20.0, start, start.plusHours(2)));
+
+        int requests = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CyclicBarrier barrier = new CyclicBarrier(requests);
+        try {
+            List<Future<Integer>> responses = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                String body = objectMapper.writeValueAsString(new Booking(null, showtime, "user" + i, 12));
+                responses.add(executor.submit(() -> {
+                    barrier.await(10, TimeUnit.SECONDS);
+                    return mockMvc.perform(post("/bookings")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                            .andReturn().getResponse().getStatus();
+                }));
+            }
+            int booked = 0;
+            int conflicts = 0;
+            for (Future<Integer> response : responses) {
+                int status = response.get(10, TimeUnit.SECONDS);
+                if (status == 200) {
+                    booked++;
+                } else if (status == 409) {
+                    conflicts++;
+                }
+            }
+
+            assertEquals(1, booked);
+            assertEquals(requests - 1, conflicts);
+            assertEquals(1, bookingRepository.findByShowtimeId(showtime.getId()).size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.att.tdp.popcorn_palace;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Benchmark: the application as configured by logback-spring.xml and the profile files, in the default mode
+// (synchronous console, show-sql, Hibernate statistics) versus the production profile (async console, one
+// summary event per request, sampled SQL trace, show-sql off). Both serve the same request mix while the
+// console is slow, as a terminal or container log driver is under load.
+@Tag("benchmark")
+public class LoggingOverheadBenchmarkTest {
+
+    private static final int THREADS = 8;
+    private static final int WARMUP_ITERATIONS = 25;
+    private static final int ITERATIONS_PER_THREAD = 100;
+    // Simulated cost of one console write
+    private static final long CONSOLE_WRITE_NANOS = 20_000;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testProductionProfile_reducesRequestLatency() throws Exception {
+        Result standard = measure(null);
+        Result production = measure("production");
+
+        System.out.printf("Logging modes, %d requests from %d threads: default %d ms (p50 %.2f ms, p99 %.2f ms), "
+                + "production %d ms (p50 %.2f ms, p99 %.2f ms)%n", production.latencies().length, THREADS,
+                standard.wallNanos() / 1_000_000, standard.percentile(0.50), standard.percentile(0.99),
+                production.wallNanos() / 1_000_000, production.percentile(0.50), production.percentile(0.99));
+        assertTrue(production.wallNanos() < standard.wallNanos(),
+                "production " + production.wallNanos() + " ns vs default " + standard.wallNanos() + " ns");
+    }
+
+    private record Result(long wallNanos, long[] latencies) {
+        // Nearest-rank percentile in milliseconds
+        double percentile(double quantile) {
+            int rank = (int) Math.ceil(quantile * latencies.length);
+            return latencies[Math.max(0, Math.min(latencies.length, rank) - 1)] / 1_000_000.0;
+        }
+    }
+
+    // Boots the application with the given profile (null for the default mode) on its own database and
+    // replays the request mix; wall time until every client thread is done
+    private Result measure(String profile) throws Exception {
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(new SlowConsole(), true));
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(PopcornPalaceApplication.class);
+        if (profile != null) {
+            builder.profiles(profile);
+        }
+        // Command line arguments, which take precedence over application.yaml
+        try (ConfigurableApplicationContext context = builder.run("--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:logging-benchmark-" + profile + ";MODE=PostgreSQL")) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            long movieId = postForId(baseUrl + "/movies", "{\"title\":\"Benchmark Feature\",\"genre\":\"Drama\","
+                    + "\"duration\":120,\"rating\":7.5,\"releaseYear\":2025}");
+            List<Long> showtimeIds = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                showtimeIds.add(postForId(baseUrl + "/showtimes", "{\"movie\":{\"id\":" + movieId + "},"
+                        + "\"theater\":\"Benchmark Hall " + thread + "\",\"price\":40.0,"
+                        + "\"startTime\":\"2031-06-01T19:00:00\",\"endTime\":\"2031-06-01T21:30:00\"}"));
+            }
+
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            try {
+                run(executor, baseUrl, showtimeIds, 0, WARMUP_ITERATIONS);
+                long start = System.nanoTime();
+                long[] latencies = run(executor, baseUrl, showtimeIds, WARMUP_ITERATIONS, ITERATIONS_PER_THREAD);
+                long wallNanos = System.nanoTime() - start;
+                Arrays.sort(latencies);
+                return new Result(wallNanos, latencies);
+            } finally {
+                executor.shutdown();
+            }
+        } finally {
+            System.setOut(console);
+        }
+    }
+
+    // Each client books seats of its own showtime and reads them back, plus a showtime read and a search
+    private long[] run(ExecutorService executor, String baseUrl, List<Long> showtimeIds, int firstSeat,
+            int iterations) throws Exception {
+        List<Future<long[]>> clients = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            long showtimeId = showtimeIds.get(thread);
+            clients.add(executor.submit(() -> {
+                long[] latencies = new long[iterations * 4];
+                int sample = 0;
+                for (int i = 0; i < iterations; i++) {
+                    long start = System.nanoTime();
+                    long bookingId = postForId(baseUrl + "/bookings", "{\"showtime\":{\"id\":" + showtimeId + "},"
+                            + "\"userId\":\"benchmark-user\",\"seatNumber\":" + (firstSeat + i + 1) + "}");
+                    latencies[sample++] = System.nanoTime() - start;
+                    latencies[sample++] = get(baseUrl + "/bookings/" + bookingId);
+                    latencies[sample++] = get(baseUrl + "/showtimes/" + showtimeId);
+                    latencies[sample++] = get(baseUrl + "/movies/search?q=bench");
+                }
+                return latencies;
+            }));
+        }
+        long[] all = new long[0];
+        for (Future<long[]> client : clients) {
+            long[] latencies = client.get();
+            int offset = all.length;
+            all = Arrays.copyOf(all, offset + latencies.length);
+            System.arraycopy(latencies, 0, all, offset, latencies.length);
+        }
+        return all;
+    }
+
+    private long get(String url) throws Exception {
+        long start = System.nanoTime();
+        HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(URI.create(url)).GET().build(),
+                HttpResponse.BodyHandlers.discarding());
+        assertEquals(200, response.statusCode(), url);
+        return System.nanoTime() - start;
+    }
+
+    private long postForId(String url, String body) throws Exception {
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode(), response.body());
+        return objectMapper.readTree(response.body()).get("id").asLong();
+    }
+
+    private static final class SlowConsole extends OutputStream {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            LockSupport.parkNanos(CONSOLE_WRITE_NANOS);
+        }
+    }
+}
@@ -17,6 +17,7 @@ import com.att.tdp.popcorn_palace.controller.MovieController;
 import com.att.tdp.popcorn_palace.model.Movie;
 import com.att.tdp.popcorn_palace.repository.MovieRepository;
 import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.att.tdp.popcorn_palace.service.MovieSearchIndex;
 
 @WebMvcTest(MovieController.class)
 public class MovieControllerTest {
@@ -30,6 +31,9 @@ public class MovieControllerTest {
     @MockBean
     private ShowtimeRepository showtimeRepository;
 
+    @MockBean
+    private MovieSearchIndex movieSearchIndex;
+
     @Test
     void testGetAllMovies_returnsOk() throws Exception {
         List<Movie> mockMovies = List.of(new Movie(1L, "Matrix", "Action", 120, 8.5, 1999));
@@ -47,4 +51,20 @@ public class MovieControllerTest {
         mockMvc.perform(get("/movies/all"))
                 .andExpect(status().isNoContent());
     }
+
+    @Test
+    void testSearchMovies_returnsIndexMatches() throws Exception {
+        when(movieSearchIndex.search("matr", 10))
+                .thenReturn(List.of(new Movie(1L, "Matrix", "Action", 120, 8.5, 1999)));
+
+        mockMvc.perform(get("/movies/search").param("q", "matr"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Matrix"));
+    }
+
+    @Test
+    void testSearchMovies_blankQuery_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/movies/search").param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
 }
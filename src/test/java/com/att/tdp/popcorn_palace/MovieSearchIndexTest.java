@@ -0,0 +1,125 @@
+package com.att.tdp.popcorn_palace;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.service.MovieSearchIndex;
+
+public class MovieSearchIndexTest {
+
+    private MovieRepository movieRepository;
+    private MovieSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        movieRepository = mock(MovieRepository.class);
+        index = new MovieSearchIndex(movieRepository);
+        index.index(new Movie(1L, "The Matrix", "Action", 136, 8.7, 1999));
+        index.index(new Movie(2L, "The Matrix Reloaded", "Action", 138, 7.2, 2003));
+        index.index(new Movie(3L, "Inception", "Sci-Fi", 148, 8.8, 2010));
+        index.index(new Movie(4L, "Interstellar", "Sci-Fi", 169, 8.7, 2014));
+    }
+
+    @Test
+    void testSearch_prefixMatchesRankedByTitle() {
+        assertEquals(List.of("Inception", "Interstellar"), titles(index.search("In", 10)));
+        assertEquals(List.of("The Matrix", "The Matrix Reloaded"), titles(index.search("the mat", 10)));
+        assertEquals("The Matrix Reloaded", titles(index.search("matrix rel", 10)).get(0));
+    }
+
+    @Test
+    void testSearch_matchesGenre() {
+        assertEquals(List.of("Inception", "Interstellar"), titles(index.search("sci", 10)));
+    }
+
+    @Test
+    void testSearch_titlePrefixOutranksManyGenreMatches() {
+        for (long id = 100; id < 400; id++) {
+            index.index(new Movie(id, "Feature " + id, "Sci-Fi", 100, 7.0, 2000));
+        }
+        index.index(new Movie(1000L, "Science Story", "Documentary", 90, 7.0, 2020));
+
+        assertEquals("Science Story", titles(index.search("sci", 5)).get(0));
+    }
+
+    @Test
+    void testSearch_fuzzyMatchesTypos() {
+        assertEquals("Interstellar", titles(index.search("intersteller", 10)).get(0));
+        assertEquals("Inception", titles(index.search("incepshun", 10)).get(0));
+    }
+
+    @Test
+    void testIndex_updateAndRemoveAreIncremental() {
+        index.index(new Movie(3L, "Dunkirk", "War", 106, 7.8, 2017));
+        assertTrue(index.search("incep", 10).isEmpty());
+        assertEquals(List.of("Dunkirk"), titles(index.search("dunk", 10)));
+
+        index.remove(3L);
+        assertTrue(index.search("dunk", 10).isEmpty());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void testResync_appliesChangesMadeByOtherInstances() {
+        // Movie 2 renamed and movie 4 deleted elsewhere, movie 5 added elsewhere
+        when(movieRepository.findAll()).thenReturn(List.of(
+                new Movie(1L, "The Matrix", "Action", 136, 8.7, 1999),
+                new Movie(2L, "The Animatrix", "Animation", 102, 7.3, 2003),
+                new Movie(3L, "Inception", "Sci-Fi", 148, 8.8, 2010),
+                new Movie(5L, "Tenet", "Sci-Fi", 150, 7.3, 2020)));
+
+        index.resync();
+
+        assertTrue(titles(index.search("reloaded", 10)).isEmpty());
+        assertEquals(List.of("The Animatrix"), titles(index.search("anim", 10)));
+        assertEquals(List.of("Inception", "Tenet"), titles(index.search("sci", 10)));
+        assertTrue(index.search("interstellar", 10).isEmpty());
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    @Tag("benchmark")
+    void testSearch_p99LatencyAt100kTitles() {
+        String[] words = { "star", "night", "love", "dark", "king", "road", "last", "city", "dream", "storm",
+                "river", "ghost", "summer", "winter", "secret", "empire", "shadow", "island", "return", "legend" };
+        String[] genres = { "Action", "Drama", "Comedy", "Horror", "Sci-Fi", "Romance" };
+        Random random = new Random(42);
+        index = new MovieSearchIndex(mock(MovieRepository.class));
+        for (long id = 1; id <= 100_000; id++) {
+            String title = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)] + " "
+                    + Long.toString(id, 36);
+            index.index(new Movie(id, title, genres[random.nextInt(genres.length)], 100, 7.0, 2000));
+        }
+
+        String[] queries = { "s", "st", "star ni", "dark k", "legnd", "shadw empire", "drama", "sci", "ghost r" };
+        for (int i = 0; i < 2_000; i++) {
+            index.search(queries[i % queries.length], 10);
+        }
+        long[] latencies = new long[10_000];
+        for (int i = 0; i < latencies.length; i++) {
+            long start = System.nanoTime();
+            index.search(queries[i % queries.length], 10);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        long p99Micros = latencies[(int) (latencies.length * 0.99)] / 1_000;
+        System.out.println("Movie search p99 at 100k titles: " + p99Micros + " us");
+        assertTrue(p99Micros < 1_000, "p99 was " + p99Micros + " us");
+    }
+
+    private static List<String> titles(List<Movie> movies) {
+        return movies.stream().map(Movie::getTitle).toList();
+    }
+}
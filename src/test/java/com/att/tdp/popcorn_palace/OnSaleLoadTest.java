@@ -0,0 +1,318 @@
+package com.att.tdp.popcorn_palace;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.att.tdp.popcorn_palace.model.Booking;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+// On-sale load test: boots the app on H2, seeds a catalog, then replays heavy POST /bookings contention on a few
+// hot showtimes mixed with catalog reads. Writes a JSON report (throughput, latency percentiles, 409/error
+// ratios, double bookings) and fails when an SLO gate is missed.
+// Run with: mvn -Pload-test test [-Dload.durationSeconds=60 -Dload.clients=128 ...]
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "spring.jpa.show-sql=false")
+public class OnSaleLoadTest {
+
+    private static final int WARMUP_SECONDS = Integer.getInteger("load.warmupSeconds", 5);
+    private static final int DURATION_SECONDS = Integer.getInteger("load.durationSeconds", 20);
+    private static final int CLIENTS = Integer.getInteger("load.clients", 8);
+    private static final int MOVIES = Integer.getInteger("load.movies", 20);
+    private static final int HOT_SHOWTIMES = Integer.getInteger("load.hotShowtimes", 3);
+    private static final int SEATS_PER_SHOWTIME = Integer.getInteger("load.seatsPerShowtime", 300);
+    private static final double BOOKING_SHARE = doubleProperty("load.bookingShare", 0.6);
+    private static final String REPORT_PATH = System.getProperty("load.report", "target/load-test/on-sale-report.json");
+
+    // Release gates
+    private static final double SLO_BOOKING_P99_MILLIS = doubleProperty("load.slo.bookingP99Millis", 300);
+    private static final double SLO_READ_P99_MILLIS = doubleProperty("load.slo.readP99Millis", 200);
+    private static final double SLO_MAX_ERROR_RATIO = doubleProperty("load.slo.maxErrorRatio", 0.001);
+    private static final long SLO_MAX_DOUBLE_BOOKINGS = Long.getLong("load.slo.maxDoubleBookings", 0L);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    @Test
+    void onSaleTrafficMix_meetsSlos() throws Exception {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        Catalog catalog = seedCatalog(runId);
+
+        runPhase(catalog, WARMUP_SECONDS, 0.0);
+        List<Sample> samples = runPhase(catalog, DURATION_SECONDS, BOOKING_SHARE);
+
+        Map<String, Object> report = buildReport(catalog, samples);
+        File reportFile = new File(REPORT_PATH);
+        reportFile.getParentFile().mkdirs();
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile, report);
+        System.out.println("On-sale load test report written to " + reportFile.getAbsolutePath());
+
+        @SuppressWarnings("unchecked")
+        List<String> violations = (List<String>) ((Map<String, Object>) report.get("slo")).get("violations");
+        assertTrue(violations.isEmpty(), "SLO violations: " + violations);
+    }
+
+    private record Catalog(List<Long> movieIds, List<Long> hotShowtimeIds, List<Long> coldShowtimeIds,
+            List<String> titles) {
+    }
+
+    // status -1 means the request failed without an HTTP response (timeout, connection error)
+    private record Sample(String kind, int status, long latencyNanos) {
+    }
+
+    private Catalog seedCatalog(String runId) throws Exception {
+        String[] genres = { "Action", "Drama", "Comedy", "Sci-Fi" };
+        List<Long> movieIds = new ArrayList<>();
+        List<String> titles = new ArrayList<>();
+        for (int i = 0; i < MOVIES; i++) {
+            String title = "Load " + runId + " Feature " + i;
+            titles.add(title);
+            movieIds.add(postForId("/movies", Map.of("title", title, "genre", genres[i % genres.length],
+                    "duration", 120, "rating", 7.5, "releaseYear", 2025)));
+        }
+
+        List<Long> hotShowtimeIds = new ArrayList<>();
+        List<Long> coldShowtimeIds = new ArrayList<>();
+        for (int i = 0; i < movieIds.size(); i++) {
+            long showtimeId = postForId("/showtimes", Map.of(
+                    "movie", Map.of("id", movieIds.get(i)),
+                    "theater", "Load " + runId + " Hall " + i,
+                    "price", 40.0,
+                    "startTime", "2031-06-01T19:00:00",
+                    "endTime", "2031-06-01T21:30:00"));
+            (i < HOT_SHOWTIMES ? hotShowtimeIds : coldShowtimeIds).add(showtimeId);
+        }
+        return new Catalog(movieIds, hotShowtimeIds, coldShowtimeIds, titles);
+    }
+
+    private List<Sample> runPhase(Catalog catalog, int seconds, double bookingShare) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            List<Future<List<Sample>>> clients = new ArrayList<>();
+            for (int client = 0; client < CLIENTS; client++) {
+                String userId = "load-user-" + client;
+                clients.add(executor.submit(() -> {
+                    List<Sample> samples = new ArrayList<>();
+                    while (System.nanoTime() < deadline) {
+                        samples.add(ThreadLocalRandom.current().nextDouble() < bookingShare
+                                ? book(catalog, userId)
+                                : browse(catalog));
+                    }
+                    return samples;
+                }));
+            }
+            List<Sample> samples = new ArrayList<>();
+            for (Future<List<Sample>> client : clients) {
+                samples.addAll(client.get());
+            }
+            return samples;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Everyone goes for the same few showtimes and a random seat
+    private Sample book(Catalog catalog, String userId) throws IOException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long showtimeId = catalog.hotShowtimeIds().get(random.nextInt(catalog.hotShowtimeIds().size()));
+        int seat = 1 + random.nextInt(SEATS_PER_SHOWTIME);
+        String body = objectMapper.writeValueAsString(
+                Map.of("showtime", Map.of("id", showtimeId), "userId", userId, "seatNumber", seat));
+        return send("booking", HttpRequest.newBuilder(uri("/bookings"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)));
+    }
+
+    private Sample browse(Catalog catalog) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Long> showtimeIds = random.nextBoolean() || catalog.coldShowtimeIds().isEmpty()
+                ? catalog.hotShowtimeIds()
+                : catalog.coldShowtimeIds();
+        long showtimeId = showtimeIds.get(random.nextInt(showtimeIds.size()));
+        String title = catalog.titles().get(random.nextInt(catalog.titles().size()));
+        String path = switch (random.nextInt(5)) {
+            case 0 -> "/movies/all";
+            case 1 -> "/movies/search?q=" + title.substring(0, 6).replace(' ', '+');
+            case 2 -> "/showtimes/" + showtimeId;
+            case 3 -> "/bookings/showtime/" + showtimeId;
+            default -> "/showtimes/movie/" + catalog.movieIds().get(random.nextInt(catalog.movieIds().size()));
+        };
+        return send("read", HttpRequest.newBuilder(uri(path)).GET());
+    }
+
+    private Sample send(String kind, HttpRequest.Builder request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = httpClient.send(request.timeout(Duration.ofSeconds(10)).build(),
+                    HttpResponse.BodyHandlers.discarding());
+            return new Sample(kind, response.statusCode(), System.nanoTime() - start);
+        } catch (IOException e) {
+            return new Sample(kind, -1, System.nanoTime() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Sample(kind, -1, System.nanoTime() - start);
+        }
+    }
+
+    private Map<String, Object> buildReport(Catalog catalog, List<Sample> samples) {
+        List<Sample> bookings = samples.stream().filter(sample -> "booking".equals(sample.kind())).toList();
+        List<Sample> reads = samples.stream().filter(sample -> "read".equals(sample.kind())).toList();
+        long errors = samples.stream().filter(sample -> sample.status() < 0 || sample.status() >= 500).count();
+        long conflicts = bookings.stream().filter(sample -> sample.status() == 409).count();
+        long booked = bookings.stream().filter(sample -> sample.status() == 200).count();
+
+        // Double booking: more than one stored booking for the same showtime and seat
+        long doubleBookings = 0;
+        long storedBookings = 0;
+        for (Long showtimeId : catalog.hotShowtimeIds()) {
+            List<Booking> stored = bookingRepository.findByShowtimeId(showtimeId);
+            storedBookings += stored.size();
+            doubleBookings += stored.stream()
+                    .collect(Collectors.groupingBy(Booking::getSeatNumber, Collectors.counting()))
+                    .values().stream().filter(count -> count > 1).mapToLong(count -> count - 1).sum();
+        }
+
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("all", percentiles(samples));
+        latency.put("bookings", percentiles(bookings));
+        latency.put("reads", percentiles(reads));
+
+        Map<String, Object> statuses = new LinkedHashMap<>();
+        samples.stream()
+                .collect(Collectors.groupingBy(
+                        sample -> sample.status() < 0 ? "io-error" : String.valueOf(sample.status()),
+                        Collectors.counting()))
+                .entrySet().stream().sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> statuses.put(entry.getKey(), entry.getValue()));
+
+        double errorRatio = ratio(errors, samples.size());
+        double bookingP99 = percentile(sortedLatencies(bookings), 0.99);
+        double readP99 = percentile(sortedLatencies(reads), 0.99);
+        List<String> violations = new ArrayList<>();
+        if (bookingP99 > SLO_BOOKING_P99_MILLIS) {
+            violations.add("booking p99 " + bookingP99 + " ms > " + SLO_BOOKING_P99_MILLIS + " ms");
+        }
+        if (readP99 > SLO_READ_P99_MILLIS) {
+            violations.add("read p99 " + readP99 + " ms > " + SLO_READ_P99_MILLIS + " ms");
+        }
+        if (errorRatio > SLO_MAX_ERROR_RATIO) {
+            violations.add("error ratio " + errorRatio + " > " + SLO_MAX_ERROR_RATIO);
+        }
+        if (doubleBookings > SLO_MAX_DOUBLE_BOOKINGS) {
+            violations.add(doubleBookings + " double-booked seats > " + SLO_MAX_DOUBLE_BOOKINGS);
+        }
+
+        Map<String, Object> slo = new LinkedHashMap<>();
+        slo.put("bookingP99Millis", SLO_BOOKING_P99_MILLIS);
+        slo.put("readP99Millis", SLO_READ_P99_MILLIS);
+        slo.put("maxErrorRatio", SLO_MAX_ERROR_RATIO);
+        slo.put("maxDoubleBookings", SLO_MAX_DOUBLE_BOOKINGS);
+        slo.put("passed", violations.isEmpty());
+        slo.put("violations", violations);
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("durationSeconds", DURATION_SECONDS);
+        config.put("warmupSeconds", WARMUP_SECONDS);
+        config.put("clients", CLIENTS);
+        config.put("movies", MOVIES);
+        config.put("hotShowtimes", HOT_SHOWTIMES);
+        config.put("seatsPerShowtime", SEATS_PER_SHOWTIME);
+        config.put("bookingShare", BOOKING_SHARE);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", config);
+        report.put("requests", samples.size());
+        report.put("throughputPerSecond", ratio(samples.size(), DURATION_SECONDS));
+        report.put("latencyMillis", latency);
+        report.put("statusCounts", statuses);
+        report.put("errorRatio", errorRatio);
+        report.put("conflictRatio", ratio(conflicts, bookings.size()));
+        report.put("successfulBookings", booked);
+        report.put("storedBookings", storedBookings);
+        report.put("doubleBookings", doubleBookings);
+        report.put("slo", slo);
+        return report;
+    }
+
+    private static Map<String, Object> percentiles(List<Sample> samples) {
+        long[] sorted = sortedLatencies(samples);
+        Map<String, Object> percentiles = new LinkedHashMap<>();
+        percentiles.put("count", sorted.length);
+        percentiles.put("p50", percentile(sorted, 0.50));
+        percentiles.put("p99", percentile(sorted, 0.99));
+        percentiles.put("p999", percentile(sorted, 0.999));
+        percentiles.put("max", percentile(sorted, 1.0));
+        return percentiles;
+    }
+
+    private static long[] sortedLatencies(List<Sample> samples) {
+        long[] latencies = samples.stream().mapToLong(Sample::latencyNanos).toArray();
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    // Nearest-rank percentile in milliseconds
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)] / 1_000_000.0;
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+
+    private static double ratio(long part, long total) {
+        return total == 0 ? 0 : (double) part / total;
+    }
+
+    private long postForId(String path, Object body) throws Exception {
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode(), response.body());
+        return objectMapper.readTree(response.body()).get("id").asLong();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
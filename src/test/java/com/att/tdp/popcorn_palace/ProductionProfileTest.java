@@ -0,0 +1,28 @@
+package com.att.tdp.popcorn_palace;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// The production profile must not pay for Hibernate statistics or their per-session metrics logging
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("production")
+public class ProductionProfileTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testCacheStats_statisticsDisabled() throws Exception {
+        mockMvc.perform(get("/cache/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statisticsEnabled").value(false));
+    }
+}
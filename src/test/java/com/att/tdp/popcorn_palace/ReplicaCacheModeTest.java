@@ -0,0 +1,85 @@
+package com.att.tdp.popcorn_palace;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.att.tdp.popcorn_palace.config.RoutingDataSource;
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+
+// With a replica configured (here the same H2 database, i.e. a replica without lag), reads routed
+// to the replica must not populate the second-level or query cache
+@SpringBootTest(properties = {
+        "popcorn-palace.datasource.replica.jdbc-url=jdbc:h2:mem:db;MODE=PostgreSQL;DB_CLOSE_ON_EXIT=FALSE",
+        "popcorn-palace.datasource.replica.username=sa",
+        "popcorn-palace.datasource.replica.password=password" })
+public class ReplicaCacheModeTest {
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void testReplicaRead_doesNotPopulateEntityCache() {
+        Movie movie = movieRepository.save(new Movie(null, "Replica Cache", "Drama", 100, 7.0, 2001));
+        entityManagerFactory.getCache().evict(Movie.class, movie.getId());
+
+        readOnly().executeWithoutResult(status -> movieRepository.findById(movie.getId()));
+        assertFalse(entityManagerFactory.getCache().contains(Movie.class, movie.getId()));
+
+        // Forced to the primary, the same read may cache the row
+        RoutingDataSource.onPrimary(() -> readOnly().execute(status -> movieRepository.findById(movie.getId())));
+        assertTrue(entityManagerFactory.getCache().contains(Movie.class, movie.getId()));
+
+        // Once cached, replica-routed reads are still served from the cache
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long hitsBefore = statistics.getSecondLevelCacheHitCount();
+        readOnly().executeWithoutResult(status -> movieRepository.findById(movie.getId()));
+        assertTrue(statistics.getSecondLevelCacheHitCount() > hitsBefore);
+    }
+
+    @Test
+    void testReplicaRead_doesNotPopulateQueryCache() {
+        Movie movie = movieRepository.save(new Movie(null, "Replica Query Cache", "Drama", 100, 7.0, 2001));
+        LocalDateTime start = LocalDateTime.now().plusDays(5);
+        showtimeRepository.save(new Showtime(null, movie, "Replica Hall", 20.0, start, start.plusHours(2)));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        long putsBefore = statistics.getQueryCachePutCount();
+        readOnly().executeWithoutResult(status -> showtimeRepository.findByMovieId(movie.getId()));
+        assertEquals(putsBefore, statistics.getQueryCachePutCount());
+
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> showtimeRepository.findByMovieId(movie.getId()));
+        assertTrue(statistics.getQueryCachePutCount() > putsBefore);
+    }
+
+    private TransactionTemplate readOnly() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate;
+    }
+}
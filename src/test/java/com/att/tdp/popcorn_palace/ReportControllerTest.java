@@ -0,0 +1,63 @@
+package com.att.tdp.popcorn_palace;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.att.tdp.popcorn_palace.controller.ReportController;
+import com.att.tdp.popcorn_palace.model.DailySales;
+import com.att.tdp.popcorn_palace.repository.DailySalesRepository;
+
+@WebMvcTest(ReportController.class)
+public class ReportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private DailySalesRepository dailySalesRepository;
+
+    private static final LocalDate DAY = LocalDate.of(2030, 1, 1);
+
+    @Test
+    void testGetOccupancy_groupedByMovie() throws Exception {
+        when(dailySalesRepository.findBySalesDateBetween(DAY, DAY)).thenReturn(List.of(
+                new DailySales(1L, DAY, 1L, "Theater 1", 3, 90.0),
+                new DailySales(2L, DAY, 1L, "Theater 2", 2, 40.0)));
+
+        mockMvc.perform(get("/reports/occupancy").param("from", "2030-01-01").param("to", "2030-01-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].date").value("2030-01-01"))
+                .andExpect(jsonPath("$[0].movieId").value(1))
+                .andExpect(jsonPath("$[0].soldSeats").value(5));
+    }
+
+    @Test
+    void testGetRevenue_groupedByTheater() throws Exception {
+        when(dailySalesRepository.findBySalesDateBetween(DAY, DAY)).thenReturn(List.of(
+                new DailySales(1L, DAY, 1L, "Theater 1", 3, 90.0),
+                new DailySales(2L, DAY, 2L, "Theater 1", 2, 40.0)));
+
+        mockMvc.perform(get("/reports/revenue").param("from", "2030-01-01").param("to", "2030-01-01")
+                .param("groupBy", "theater"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].theater").value("Theater 1"))
+                .andExpect(jsonPath("$[0].revenue").value(130.0));
+    }
+
+    @Test
+    void testGetRevenue_invalidGroupBy() throws Exception {
+        mockMvc.perform(get("/reports/revenue").param("from", "2030-01-01").param("to", "2030-01-01")
+                .param("groupBy", "genre"))
+                .andExpect(status().isBadRequest());
+    }
+}
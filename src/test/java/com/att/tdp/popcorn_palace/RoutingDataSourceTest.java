@@ -0,0 +1,113 @@
+package com.att.tdp.popcorn_palace;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.att.tdp.popcorn_palace.config.ReplicaStalenessPolicy;
+import com.att.tdp.popcorn_palace.config.RoutingDataSource;
+
+// Routing against two H2 databases standing in for the Postgres primary and replica
+public class RoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource routing = new LazyConnectionDataSourceProxy(
+                new RoutingDataSource(database("primary"), database("replica")));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        jdbcTemplate = new JdbcTemplate(routing);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @Test
+    void testReadOnlyTransactions_goToReplica() {
+        assertEquals("replica", readOnly.execute(status -> whichDatabase()));
+    }
+
+    @Test
+    void testReadWriteTransactionsAndPlainCalls_goToPrimary() {
+        assertEquals("primary", readWrite.execute(status -> whichDatabase()));
+        assertEquals("primary", whichDatabase());
+    }
+
+    @Test
+    void testOnPrimary_overridesReadOnlyRouting() {
+        assertEquals("primary", readOnly.execute(status -> RoutingDataSource.onPrimary(this::whichDatabase)));
+        assertEquals("replica", readOnly.execute(status -> whichDatabase()));
+    }
+
+    @Test
+    void testStalenessPolicy_forcesPrimaryOnlyWithinWindow() throws Exception {
+        ReplicaStalenessPolicy policy = new ReplicaStalenessPolicy(Duration.ofMillis(100));
+        assertFalse(policy.requiresPrimary(1L));
+
+        policy.recordWrite(1L);
+        assertTrue(policy.requiresPrimary(1L));
+        assertFalse(policy.requiresPrimary(2L));
+
+        Thread.sleep(150);
+        assertFalse(policy.requiresPrimary(1L));
+    }
+
+    @Test
+    void testStalenessPolicy_zeroWindowAlwaysAllowsReplica() {
+        ReplicaStalenessPolicy policy = new ReplicaStalenessPolicy(Duration.ZERO);
+        policy.recordWrite(1L);
+        assertFalse(policy.requiresPrimary(1L));
+    }
+
+    @Test
+    void testStalenessPolicy_windowStartsWhenTheWriteCommits() {
+        ReplicaStalenessPolicy policy = new ReplicaStalenessPolicy(Duration.ofSeconds(10));
+        readWrite.executeWithoutResult(status -> {
+            policy.recordWrite(1L);
+            policy.recordBookingWrite(7L);
+            assertFalse(policy.requiresPrimary(1L));
+            assertFalse(policy.requiresPrimaryForBooking(7L));
+        });
+        assertTrue(policy.requiresPrimary(1L));
+        assertTrue(policy.requiresPrimaryForBooking(7L));
+        assertFalse(policy.requiresPrimaryForBooking(1L));
+
+        readWrite.executeWithoutResult(status -> {
+            policy.recordWrite(2L);
+            policy.recordBookingWrite(8L);
+            status.setRollbackOnly();
+        });
+        assertFalse(policy.requiresPrimary(2L));
+        assertFalse(policy.requiresPrimaryForBooking(8L));
+    }
+
+    private String whichDatabase() {
+        return jdbcTemplate.queryForObject("select name from marker", String.class);
+    }
+
+    private static DataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("create table if not exists marker (name varchar(20))");
+        jdbc.execute("delete from marker");
+        jdbc.update("insert into marker (name) values (?)", name);
+        return dataSource;
+    }
+}
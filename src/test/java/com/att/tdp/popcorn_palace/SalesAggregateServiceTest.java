@@ -0,0 +1,173 @@
+package com.att.tdp.popcorn_palace;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.att.tdp.popcorn_palace.model.Booking;
+import com.att.tdp.popcorn_palace.model.DailySales;
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.DailySalesRepository;
+import com.att.tdp.popcorn_palace.repository.JobMarkerRepository;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.repository.SalesDeltaRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.att.tdp.popcorn_palace.service.SalesAggregateService;
+
+// The scheduled rollup is slowed down so the tests decide when deltas are rolled up
+@SpringBootTest(properties = "popcorn-palace.reports.flush-interval=PT1H")
+public class SalesAggregateServiceTest {
+
+    @Autowired
+    private SalesAggregateService salesAggregateService;
+
+    @Autowired
+    private DailySalesRepository dailySalesRepository;
+
+    @Autowired
+    private SalesDeltaRepository salesDeltaRepository;
+
+    @Autowired
+    private JobMarkerRepository jobMarkerRepository;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void testAdjust_concurrentFirstBookingsLandInOneBucket() throws Exception {
+        LocalDate day = LocalDate.of(2031, 3, 1);
+        int threads = 8;
+        int bookingsPerThread = 50;
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < bookingsPerThread; i++) {
+                    transactionTemplate.executeWithoutResult(
+                            status -> salesAggregateService.adjust(day, 1L, "Aggregate Hall", 10.0, 1));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        rollUpAll();
+
+        List<DailySales> rows = dailySalesRepository.findBySalesDateBetween(day, day);
+        assertEquals(1, rows.size());
+        assertEquals(threads * bookingsPerThread, rows.get(0).getSoldSeats());
+        assertEquals(threads * bookingsPerThread * 10.0, rows.get(0).getRevenue(), 0.001);
+    }
+
+    @Test
+    void testAdjust_rolledBackBookingIsNotCounted() throws Exception {
+        LocalDate day = LocalDate.of(2031, 3, 2);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            salesAggregateService.adjust(day, 1L, "Aggregate Hall", 10.0, 1);
+            status.setRollbackOnly();
+        });
+        transactionTemplate.executeWithoutResult(
+                status -> salesAggregateService.adjust(day, 1L, "Aggregate Hall", 10.0, 2));
+        rollUpAll();
+
+        List<DailySales> rows = dailySalesRepository.findBySalesDateBetween(day, day);
+        assertEquals(1, rows.size());
+        assertEquals(2, rows.get(0).getSoldSeats());
+    }
+
+    @Test
+    void testAdjust_committedDeltaIsDurableUntilRolledUp() throws Exception {
+        LocalDate day = LocalDate.of(2031, 3, 3);
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+                status -> salesAggregateService.adjust(day, 1L, "Aggregate Hall", 10.0, 3));
+
+        // Nothing about the booking is held in memory: the delta is a committed row until a rollup takes it
+        assertTrue(salesDeltaRepository.findAll().stream().anyMatch(delta -> day.equals(delta.getSalesDate())));
+        rollUpAll();
+
+        assertTrue(salesDeltaRepository.findAll().stream().noneMatch(delta -> day.equals(delta.getSalesDate())));
+        assertEquals(3, dailySalesRepository.findBySalesDateBetween(day, day).get(0).getSoldSeats());
+    }
+
+    @Test
+    void testBackfill_concurrentInstancesSeedOnce() throws Exception {
+        Movie movie = movieRepository.save(new Movie(null, "Backfill Movie", "Drama", 100, 7.0, 2001));
+        LocalDateTime showStart = LocalDateTime.of(2031, 4, 1, 18, 0);
+        Showtime showtime = showtimeRepository.save(
+                new Showtime(null, movie, "Backfill Hall", 10.0, showStart, showStart.plusHours(2)));
+        for (int seat = 1; seat <= 3; seat++) {
+            bookingRepository.save(new Booking(null, showtime, "backfill-user", seat));
+        }
+        // A first deploy: bookings exist, the aggregate tables and the marker don't
+        rollUpAll();
+        dailySalesRepository.deleteAllInBatch();
+        jobMarkerRepository.deleteAllInBatch();
+
+        int instances = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(instances);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < instances; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                salesAggregateService.backfill();
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        LocalDate day = showStart.toLocalDate();
+        List<DailySales> rows = dailySalesRepository.findBySalesDateBetween(day, day).stream()
+                .filter(row -> row.getTheater().equals("Backfill Hall"))
+                .toList();
+        assertEquals(1, rows.size());
+        assertEquals(3, rows.get(0).getSoldSeats());
+    }
+
+    // Other cached test contexts share the in-memory database and run their own scheduled rollup, which
+    // can hold some deltas locked (and skipped here) until it commits; wait until every delta is rolled up
+    private void rollUpAll() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        salesAggregateService.flush();
+        while (salesDeltaRepository.count() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            salesAggregateService.flush();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.att.tdp.popcorn_palace;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.att.tdp.popcorn_palace.model.Booking;
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.ArchivedBookingRepository;
+import com.att.tdp.popcorn_palace.repository.ArchivedShowtimeRepository;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.att.tdp.popcorn_palace.service.ShowtimeArchiver;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ShowtimeArchiverTest {
+
+    private static final int GENERATIONS = 5;
+    private static final int SHOWTIMES_PER_GENERATION = 200;
+    private static final int BOOKINGS_PER_SHOWTIME = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ShowtimeArchiver showtimeArchiver;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ArchivedBookingRepository archivedBookingRepository;
+
+    @Autowired
+    private ArchivedShowtimeRepository archivedShowtimeRepository;
+
+    @Test
+    void testArchive_movesFinishedShowtimesAndKeepsThemReadable() throws Exception {
+        Movie movie = movieRepository.save(new Movie(null, "Archive Single", "Drama", 100, 7.0, 2001));
+        LocalDateTime start = LocalDateTime.now().minusDays(3);
+        Showtime finished = showtimeRepository.save(
+                new Showtime(null, movie, "Archive Hall", 25.0, start, start.plusHours(2)));
+        Showtime upcoming = showtimeRepository.save(
+                new Showtime(null, movie, "Archive Hall", 25.0, start.plusDays(10), start.plusDays(10).plusHours(2)));
+        bookingRepository.save(new Booking(null, finished, "user1", 7));
+
+        showtimeArchiver.archiveEndedBefore(LocalDateTime.now().minusDays(1));
+
+        assertEquals(List.of(upcoming.getId()),
+                showtimeRepository.findByMovieId(movie.getId()).stream().map(Showtime::getId).toList());
+        assertEquals(0, bookingRepository.countByShowtimeId(finished.getId()));
+
+        mockMvc.perform(get("/showtimes/" + finished.getId()))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/archive/showtimes/" + finished.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.movieId").value(movie.getId()))
+                .andExpect(jsonPath("$.theater").value("Archive Hall"));
+        mockMvc.perform(get("/archive/showtimes/movie/" + movie.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+        mockMvc.perform(get("/archive/bookings/showtime/" + finished.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].seatNumber").value(7));
+    }
+
+    // Two instances firing the schedule at the same moment must split the work, not archive the same rows twice
+    @Test
+    void testArchive_concurrentRunsTakeDisjointBatches() throws Exception {
+        Movie movie = movieRepository.save(new Movie(null, "Archive Concurrent", "Drama", 100, 7.0, 2001));
+        LocalDateTime from = LocalDateTime.now().minusYears(10);
+        seedFinishedShowtimes(movie, "Concurrent Hall", from);
+        LocalDateTime cutoff = from.plusYears(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> runs = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            runs.add(executor.submit(() -> {
+                start.await();
+                return showtimeArchiver.archiveEndedBefore(cutoff);
+            }));
+        }
+        start.countDown();
+        int archived = 0;
+        for (Future<Integer> run : runs) {
+            archived += run.get();
+        }
+        executor.shutdown();
+
+        assertEquals(SHOWTIMES_PER_GENERATION, archived);
+        assertTrue(showtimeRepository.findByTheater("Concurrent Hall").isEmpty());
+        assertEquals(SHOWTIMES_PER_GENERATION, archivedShowtimeRepository.findByMovieId(movie.getId()).size());
+    }
+
+    // Hot-table lookups should cost the same after every generation of archived history,
+    // while the same history left in the hot tables makes them slower
+    @Test
+    @Tag("benchmark")
+    void testArchive_hotQueryLatencyStaysFlatAsHistoryGrows() {
+        Movie movie = movieRepository.save(new Movie(null, "Archive Bench", "Drama", 100, 7.0, 2001));
+        LocalDateTime now = LocalDateTime.now();
+        long archivedBefore = archivedBookingRepository.count();
+
+        String theater = "Bench Hall";
+        Showtime upcoming = showtimeRepository.save(
+                new Showtime(null, movie, theater, 30.0, now.plusDays(30), now.plusDays(30).plusHours(2)));
+        bookingRepository.save(new Booking(null, upcoming, "bench-user", 1));
+        for (int i = 0; i < 10; i++) {
+            medianLookupMicros(theater, upcoming.getId());
+        }
+        List<Long> archivedMicros = new ArrayList<>();
+        for (int generation = 1; generation <= GENERATIONS; generation++) {
+            seedFinishedShowtimes(movie, theater, now.minusYears(generation));
+            showtimeArchiver.archiveEndedBefore(now.minusDays(1));
+
+            assertEquals(1, showtimeRepository.findByTheater(theater).size());
+            assertEquals(1, bookingRepository.findByShowtimeId(upcoming.getId()).size());
+            archivedMicros.add(medianLookupMicros(theater, upcoming.getId()));
+        }
+        assertEquals((long) GENERATIONS * SHOWTIMES_PER_GENERATION * BOOKINGS_PER_SHOWTIME,
+                archivedBookingRepository.count() - archivedBefore);
+
+        // Baseline: the same history, never archived (seeded after the last archiver run)
+        String baselineTheater = "Bench Hall Unarchived";
+        Showtime baselineUpcoming = showtimeRepository.save(new Showtime(null, movie, baselineTheater, 30.0,
+                now.plusDays(30), now.plusDays(30).plusHours(2)));
+        bookingRepository.save(new Booking(null, baselineUpcoming, "bench-user", 1));
+        List<Long> baselineMicros = new ArrayList<>();
+        for (int generation = 1; generation <= GENERATIONS; generation++) {
+            seedFinishedShowtimes(movie, baselineTheater, now.minusYears(generation));
+            baselineMicros.add(medianLookupMicros(baselineTheater, baselineUpcoming.getId()));
+        }
+
+        System.out.println("Hot lookup median latency per history generation (us), archived: " + archivedMicros
+                + ", unarchived: " + baselineMicros);
+        long firstArchived = archivedMicros.get(0);
+        long lastArchived = archivedMicros.get(GENERATIONS - 1);
+        assertTrue(lastArchived <= 2 * firstArchived + 100,
+                "archived lookups grew from " + firstArchived + " us to " + lastArchived + " us");
+        assertTrue(lastArchived < baselineMicros.get(GENERATIONS - 1),
+                "archived " + lastArchived + " us vs unarchived " + baselineMicros.get(GENERATIONS - 1) + " us");
+
+        // Leave no finished history behind in the hot tables for other tests
+        showtimeArchiver.archiveEndedBefore(now.minusDays(1));
+    }
+
+    private void seedFinishedShowtimes(Movie movie, String theater, LocalDateTime from) {
+        for (int i = 0; i < SHOWTIMES_PER_GENERATION; i++) {
+            LocalDateTime start = from.plusHours(3L * i);
+            Showtime showtime = showtimeRepository.save(
+                    new Showtime(null, movie, theater, 30.0, start, start.plusHours(2)));
+            List<Booking> bookings = new ArrayList<>();
+            for (int seat = 1; seat <= BOOKINGS_PER_SHOWTIME; seat++) {
+                bookings.add(new Booking(null, showtime, "user" + seat, seat));
+            }
+            bookingRepository.saveAll(bookings);
+        }
+    }
+
+    private long medianLookupMicros(String theater, Long showtimeId) {
+        long[] samples = new long[200];
+        for (int i = 0; i < samples.length; i++) {
+            long start = System.nanoTime();
+            showtimeRepository.findByTheater(theater);
+            bookingRepository.findByShowtimeId(showtimeId);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[samples.length / 2] / 1_000;
+    }
+}
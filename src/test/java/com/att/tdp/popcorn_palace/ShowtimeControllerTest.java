@@ -17,8 +17,11 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.att.tdp.popcorn_palace.controller.ShowtimeController;
 import com.att.tdp.popcorn_palace.model.Movie;
 import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
 import com.att.tdp.popcorn_palace.repository.MovieRepository;
 import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.att.tdp.popcorn_palace.service.SalesAggregateService;
+import com.att.tdp.popcorn_palace.service.ShowtimeReadCoalescer;
 
 @WebMvcTest(ShowtimeController.class)
 public class ShowtimeControllerTest {
@@ -32,6 +35,15 @@ public class ShowtimeControllerTest {
     @MockBean
     private MovieRepository movieRepository;
 
+    @MockBean
+    private BookingRepository bookingRepository;
+
+    @MockBean
+    private SalesAggregateService salesAggregateService;
+
+    @MockBean
+    private ShowtimeReadCoalescer showtimeReadCoalescer;
+
     @Test
     void testGetAllShowtimes_returnsOk() throws Exception {
         Movie movie = new Movie(1L, "Matrix", "Action", 120, 8.5, 1999);
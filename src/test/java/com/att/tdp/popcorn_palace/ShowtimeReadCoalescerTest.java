@@ -0,0 +1,163 @@
+package com.att.tdp.popcorn_palace;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.att.tdp.popcorn_palace.model.Booking;
+import com.att.tdp.popcorn_palace.model.Movie;
+import com.att.tdp.popcorn_palace.model.Showtime;
+import com.att.tdp.popcorn_palace.repository.BookingRepository;
+import com.att.tdp.popcorn_palace.repository.MovieRepository;
+import com.att.tdp.popcorn_palace.repository.ShowtimeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+
+// Runs the real ShowtimeReadCoalescer behind the controllers: a booking committed while a read of the
+// same showtime is in flight must detach that read, so requests arriving after the write load afresh, and
+// requests parked on an in-flight read must not hold database connections
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ShowtimeReadCoalescerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MovieRepository movieRepository;
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @SpyBean
+    private BookingRepository bookingRepository;
+
+    @Test
+    void testCreateBooking_detachesInFlightBookingRead() throws Exception {
+        Movie movie = movieRepository.save(new Movie(null, "Coalescer Movie", "Drama", 100, 7.0, 2001));
+        LocalDateTime start = LocalDateTime.now().plusDays(3);
+        Showtime showtime = showtimeRepository.save(
+                new Showtime(null, movie, "Coalescer Hall", 20.0, start, start.plusHours(2)));
+
+        // The first bookings read of the showtime loads its result, then stays in flight until released
+        CountDownLatch loaded = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        holdFirstBookingsRead(loaded, release);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Integer> inFlightRead = executor.submit(() -> mockMvc
+                    .perform(get("/bookings/showtime/" + showtime.getId()))
+                    .andReturn().getResponse().getStatus());
+            assertTrue(loaded.await(10, TimeUnit.SECONDS));
+
+            Booking booking = new Booking(null, showtime, "coalescer-user", 7);
+            mockMvc.perform(post("/bookings")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(booking)))
+                    .andExpect(status().isOk());
+
+            // Arriving after the commit, this read must not join the detached load from before the write
+            mockMvc.perform(get("/bookings/showtime/" + showtime.getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(1))
+                    .andExpect(jsonPath("$[0].seatNumber").value(7));
+
+            // The detached read still completes with what it loaded before the write
+            release.countDown();
+            assertEquals(204, inFlightRead.get(10, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testParkedBookingReads_holdNoConnections() throws Exception {
+        Movie movie = movieRepository.save(new Movie(null, "Pool Movie", "Drama", 100, 7.0, 2001));
+        LocalDateTime start = LocalDateTime.now().plusDays(3);
+        Showtime showtime = showtimeRepository.save(
+                new Showtime(null, movie, "Pool Hall", 20.0, start, start.plusHours(2)));
+        CountDownLatch loaded = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        holdFirstBookingsRead(loaded, release);
+
+        int requests = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        try {
+            List<Future<Integer>> reads = new ArrayList<>();
+            reads.add(executor.submit(() -> readBookings(showtime)));
+            assertTrue(loaded.await(10, TimeUnit.SECONDS));
+            for (int i = 1; i < requests; i++) {
+                reads.add(executor.submit(() -> readBookings(showtime)));
+            }
+            // Give the other requests time to reach the coalescer and park on the in-flight read
+            Thread.sleep(500);
+
+            // Only the loading request has a connection (plus, at most, a background job's)
+            int active = primaryDataSource.getHikariPoolMXBean().getActiveConnections();
+            assertTrue(active <= 2, active + " active connections with " + requests + " requests in flight");
+
+            release.countDown();
+            for (Future<Integer> read : reads) {
+                assertEquals(204, read.get(10, TimeUnit.SECONDS));
+            }
+            // The parked requests were served by the one held read
+            verify(bookingRepository, times(1)).findByShowtimeId(showtime.getId());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private int readBookings(Showtime showtime) throws Exception {
+        return mockMvc.perform(get("/bookings/showtime/" + showtime.getId())).andReturn().getResponse().getStatus();
+    }
+
+    // Hold the first findByShowtimeId call, after it has loaded, until released
+    private void holdFirstBookingsRead(CountDownLatch loaded, CountDownLatch release) {
+        AtomicBoolean first = new AtomicBoolean(true);
+        // The spy of a repository proxy delegates through its default answer rather than callRealMethod
+        Answer<?> repository = mockingDetails(bookingRepository).getMockCreationSettings().getDefaultAnswer();
+        doAnswer(invocation -> {
+            Object result = repository.answer(invocation);
+            if (first.compareAndSet(true, false)) {
+                loaded.countDown();
+                assertTrue(release.await(10, TimeUnit.SECONDS));
+            }
+            return result;
+        }).when(bookingRepository).findByShowtimeId(anyLong());
+    }
+}
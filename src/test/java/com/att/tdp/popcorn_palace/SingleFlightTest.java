@@ -0,0 +1,117 @@
+package com.att.tdp.popcorn_palace;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.att.tdp.popcorn_palace.service.SingleFlight;
+
+public class SingleFlightTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CountDownLatch loading = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testConcurrentCallsShareOneLoad() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(16);
+        Future<String> leader = executor.submit(() -> singleFlight.execute(1L, this::blockingLoad));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        List<String> results = new CopyOnWriteArrayList<>();
+        List<Thread> followers = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Thread follower = new Thread(() -> results.add(singleFlight.execute(1L, this::blockingLoad)));
+            follower.start();
+            followers.add(follower);
+        }
+        // Only release the load once every follower is parked waiting on it
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        for (Thread follower : followers) {
+            while (follower.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+        }
+        release.countDown();
+
+        assertEquals("load-1", leader.get(5, TimeUnit.SECONDS));
+        for (Thread follower : followers) {
+            follower.join(5_000);
+        }
+        assertEquals(20, results.size());
+        assertTrue(results.stream().allMatch("load-1"::equals));
+        assertEquals(1, loads.get());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    void testForgetMidFlight_laterCallersStartNewLoad() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(16);
+        Future<String> beforeWrite = executor.submit(() -> singleFlight.execute(1L, this::blockingLoad));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        // A write to the key commits while the first load is still running
+        singleFlight.forget(1L);
+        String afterWrite = singleFlight.execute(1L, () -> "load-" + loads.incrementAndGet());
+        release.countDown();
+
+        assertEquals("load-2", afterWrite);
+        assertEquals("load-1", beforeWrite.get(5, TimeUnit.SECONDS));
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    void testBoundReached_loadsWithoutCoalescing() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(1);
+        Future<String> blocked = executor.submit(() -> singleFlight.execute(1L, this::blockingLoad));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        assertEquals("direct", singleFlight.execute(2L, () -> "direct"));
+        assertEquals(1, singleFlight.inFlightCount());
+
+        release.countDown();
+        assertEquals("load-1", blocked.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testFailedLoad_isRethrownAndNotRemembered() {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(16);
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute(1L, () -> {
+            throw new IllegalStateException("database unavailable");
+        }));
+
+        assertEquals("recovered", singleFlight.execute(1L, () -> "recovered"));
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    private String blockingLoad() {
+        String value = "load-" + loads.incrementAndGet();
+        loading.countDown();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,213 @@
+package com.att.tdp.popcorn_palace;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Repeatable startup measurement against H2: boots the application several times with the default
+// configuration and with the fast-startup profile, and records context startup and time to first booking.
+// When the fast-startup artifact has been built (mvn -Pfast-startup package), it is also launched as a
+// separate JVM with and without AOT and the AppCDS archive.
+@Tag("benchmark")
+public class StartupTimeTest {
+
+    private static final int RUNS = 3;
+    // Passed as command line arguments, which take precedence over application.yaml
+    private static final String[] ARGS = {
+            "--spring.datasource.url=jdbc:h2:mem:startup;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+            "--server.port=0",
+            "--spring.jpa.show-sql=false",
+            // Each context would otherwise close the JCache manager shared with other test contexts
+            "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+            "--spring.jpa.properties.hibernate.cache.use_query_cache=false" };
+
+    private static final File FAST_STARTUP_DIR = new File("target/fast-startup");
+    private static final String MAIN_CLASS = PopcornPalaceApplication.class.getName();
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private int bookingsMade;
+
+    @Test
+    void testFastStartupProfile_startsAndBooks() throws Exception {
+        // The fast-startup profile does not touch the schema, so provision it once up front like a migration would
+        createApplication().web(WebApplicationType.NONE).run(ARGS).close();
+
+        List<long[]> defaultRuns = new ArrayList<>();
+        List<long[]> fastRuns = new ArrayList<>();
+        for (int run = 0; run < RUNS; run++) {
+            defaultRuns.add(measure(createApplication()));
+            fastRuns.add(measure(createApplication().profiles("fast-startup")));
+        }
+
+        System.out.println("Startup (ms) / time to first booking (ms), default:      " + describe(defaultRuns));
+        System.out.println("Startup (ms) / time to first booking (ms), fast-startup: " + describe(fastRuns));
+        // Without AOT/CDS the profile alone only skips schema work, so it must at least not start slower
+        long defaultBest = bestStartup(defaultRuns);
+        long fastBest = bestStartup(fastRuns);
+        assertTrue(fastBest <= defaultBest * 1.25,
+                "fast-startup best " + fastBest + " ms vs default best " + defaultBest + " ms");
+    }
+
+    @Test
+    void testAotCdsBuild_startsAndBooksFasterThanPlainJar() throws Exception {
+        File jar = new File(FAST_STARTUP_DIR, "popcorn-palace-0.0.1-SNAPSHOT.jar");
+        File archive = new File(FAST_STARTUP_DIR, "application.jsa");
+        assumeTrue(jar.isFile() && archive.isFile(), "Build the artifact first: mvn -Pfast-startup package");
+
+        File workDir = new File("target/startup-time/" + System.currentTimeMillis());
+        assertTrue(workDir.mkdirs());
+        // H2 is a test dependency, so it is appended to the artifact's classpath; the archive's classpath
+        // (the jar and its lib/ directory) stays a prefix, as AppCDS requires
+        String classpath = jar.getPath() + File.pathSeparator
+                + new File(org.h2.Driver.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        List<String> database = List.of(
+                "--spring.datasource.url=jdbc:h2:file:" + workDir.getAbsolutePath() + "/db;MODE=PostgreSQL",
+                "--spring.datasource.driverClassName=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=");
+
+        // Provision the schema once with the default profile, which updates it
+        Process migration = launch(workDir, "migrate", classpath, List.of("-Dspring.context.exit=onRefresh"),
+                database);
+        assertTrue(migration.waitFor(120, TimeUnit.SECONDS) && migration.exitValue() == 0,
+                "schema provisioning failed, see " + workDir);
+
+        List<String> profiles = List.of("-Dspring.profiles.active=fast-startup,production");
+        List<String> aotCds = List.of("-XX:SharedArchiveFile=" + archive.getPath(), "-Dspring.aot.enabled=true",
+                "-Dspring.profiles.active=fast-startup,production");
+        List<Long> plainRuns = new ArrayList<>();
+        List<Long> aotCdsRuns = new ArrayList<>();
+        for (int run = 0; run < RUNS; run++) {
+            plainRuns.add(timeToFirstBooking(workDir, "plain-" + run, classpath, profiles, database));
+            aotCdsRuns.add(timeToFirstBooking(workDir, "aot-cds-" + run, classpath, aotCds, database));
+        }
+
+        System.out.println("Launch to first booking (ms), fast-startup jar:           " + plainRuns);
+        System.out.println("Launch to first booking (ms), fast-startup jar + AOT/CDS: " + aotCdsRuns);
+        long plainBest = plainRuns.stream().mapToLong(Long::longValue).min().orElseThrow();
+        long aotCdsBest = aotCdsRuns.stream().mapToLong(Long::longValue).min().orElseThrow();
+        assertTrue(aotCdsBest <= plainBest * 0.85,
+                "AOT/CDS best " + aotCdsBest + " ms vs plain best " + plainBest + " ms");
+    }
+
+    // Launches the artifact as its own JVM and books a seat as soon as it accepts requests
+    private long timeToFirstBooking(File workDir, String name, String classpath, List<String> jvmOptions,
+            List<String> database) throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        List<String> args = new ArrayList<>(database);
+        args.add("--server.port=" + port);
+        long launched = System.nanoTime();
+        Process process = launch(workDir, name, classpath, jvmOptions, args);
+        try {
+            String baseUrl = "http://localhost:" + port;
+            awaitHttp(baseUrl, process, launched);
+            bookFirstSeat(baseUrl);
+            return (System.nanoTime() - launched) / 1_000_000;
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private Process launch(File workDir, String name, String classpath, List<String> jvmOptions, List<String> args)
+            throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + "/bin/java");
+        command.addAll(jvmOptions);
+        command.add("-cp");
+        command.add(classpath);
+        command.add(MAIN_CLASS);
+        command.addAll(args);
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(new File(workDir, name + ".log"))
+                .start();
+    }
+
+    private void awaitHttp(String baseUrl, Process process, long launched) throws Exception {
+        while (true) {
+            try {
+                httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + "/movies/all")).GET().build(),
+                        HttpResponse.BodyHandlers.discarding());
+                return;
+            } catch (IOException e) {
+                assertTrue(process.isAlive(), "application exited during startup");
+                assertTrue(System.nanoTime() - launched < TimeUnit.SECONDS.toNanos(120), "startup timed out");
+                Thread.sleep(20);
+            }
+        }
+    }
+
+    private SpringApplicationBuilder createApplication() {
+        return new SpringApplicationBuilder(PopcornPalaceApplication.class);
+    }
+
+    // Returns {context startup ms, launch-to-first-booking ms}
+    private long[] measure(SpringApplicationBuilder application) throws Exception {
+        long launched = System.nanoTime();
+        try (ConfigurableApplicationContext context = application.run(ARGS)) {
+            long started = System.nanoTime();
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            bookFirstSeat(baseUrl);
+            long booked = System.nanoTime();
+            return new long[] { (started - launched) / 1_000_000, (booked - launched) / 1_000_000 };
+        }
+    }
+
+    private void bookFirstSeat(String baseUrl) throws Exception {
+        int run = ++bookingsMade;
+        long movieId = postForId(baseUrl + "/movies", "{\"title\":\"Startup " + run + "\",\"genre\":\"Drama\","
+                + "\"duration\":100,\"rating\":7.0,\"releaseYear\":2001}");
+        long showtimeId = postForId(baseUrl + "/showtimes", "{\"movie\":{\"id\":" + movieId + "},"
+                + "\"theater\":\"Startup Hall " + run + "\",\"price\":20.0,"
+                + "\"startTime\":\"2030-01-01T18:00:00\",\"endTime\":\"2030-01-01T20:00:00\"}");
+        postForId(baseUrl + "/bookings", "{\"showtime\":{\"id\":" + showtimeId + "},"
+                + "\"userId\":\"startup-user\",\"seatNumber\":1}");
+    }
+
+    private long postForId(String url, String json) throws Exception {
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode(), response.body());
+        return objectMapper.readTree(response.body()).get("id").asLong();
+    }
+
+    private static long bestStartup(List<long[]> runs) {
+        return runs.stream().mapToLong(run -> run[0]).min().orElseThrow();
+    }
+
+    private static String describe(List<long[]> runs) {
+        StringBuilder description = new StringBuilder();
+        for (long[] run : runs) {
+            description.append(run[0]).append('/').append(run[1]).append("  ");
+        }
+        return description.toString().trim();
+    }
+}